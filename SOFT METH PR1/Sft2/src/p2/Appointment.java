@@ -82,6 +82,16 @@ public class Appointment implements Comparable<Appointment> {
         this.timeslot = newTimeslot;
     }
 
+    /**
+     * Creates a copy of the appointment at another timeslot; this appointment is unchanged.
+     *
+     * @param newTimeslot the timeslot of the copy
+     * @return the rescheduled copy
+     */
+    public Appointment atTimeslot(Timeslot newTimeslot) {
+        return new Appointment(date, newTimeslot, patient, provider);
+    }
+
     /**
      * Gets the timeslot of the appointment.
      *
@@ -140,6 +150,19 @@ public class Appointment implements Comparable<Appointment> {
         return false;
     }
 
+    /**
+     * Returns a hash code consistent with equals. The timeslot is left out because
+     * rescheduling changes it in place, and the hash must not change while the
+     * appointment is stored in a hash-based structure.
+     *
+     * @return the hash code based on the date, patient, and provider
+     */
+    @Override
+    public int hashCode() {
+        int h = 31 * date.hashCode() + patient.hashCode();
+        return 31 * h + (provider == null ? 0 : provider.hashCode());
+    }
+
     /**
      * Converts the appointment to a String representation.
      *
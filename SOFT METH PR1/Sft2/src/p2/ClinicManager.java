@@ -1,13 +1,22 @@
 package p2;
 
+import util.BusinessCalendar;
 import util.CircularList;
 import util.Date;
+import util.IndexedList;
 import util.List;
+import util.PersistentList;
+import util.SkipList;
+import util.SortedList;
 import util.Sort;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Scanner;
+import java.util.stream.Stream;
 
 
 
@@ -19,16 +28,46 @@ import java.util.Scanner;
  *
  */
 public class ClinicManager {
-    private final List<Provider> providers;
+    // Appointment lists at least this long are aggregated with a parallel stream
+    private static final int PARALLEL_THRESHOLD = 100_000;
+    // Openings listed by the S command when no count is given
+    private static final int DEFAULT_OPENINGS = 5;
+
+    // Providers, always in profile order, so listings never sort them
+    private final SortedList<Provider> providers;
     private final List<Appointment> Appointments;
+    // Ordered indexes over Appointments, kept up to date on every booking change so listings never sort
+    private final SkipList<Appointment> byDateTime;
+    private final SkipList<Appointment> byCounty;
+    // Immutable version of the bookings for the billing reports. Every change makes a new version in
+    // O(log n) that shares structure with the old one, so a report holds one version as its snapshot
+    private PersistentList<Appointment> bookings;
+    // Position of each booked appointment in bookings, so a cancel can swap the last one into its place
+    private final HashMap<Appointment, Integer> bookingPositions;
+    // Booked timeslots per provider and per room per day, so availability checks never scan Appointments
+    private final OccupancyIndex occupancy;
     private CircularList<Technician> technicianRotation;
+    // Picks technicians from technicianRotation using the occupancy masks
+    private TechnicianDispatcher dispatcher;
+    // Bookable days of the six-month window, minus the closures listed in closures.txt
+    private final BusinessCalendar calendar;
+    // Finds the earliest free office slots for the S command
+    private final OpeningSearch openingSearch;
     private String[] commandParts;
 
 
     public ClinicManager() {
-        providers = new List<Provider>();
-        Appointments = new List<>();
+        providers = new SortedList<>(Sort::compareProvider);
+        Appointments = new IndexedList<>();
+        byDateTime = new SkipList<>(Sort.comparator(Sort.SortType.APPOINTMENT_SORTING));
+        byCounty = new SkipList<>(Sort.comparator(Sort.SortType.LOCATION_SORTING));
+        bookings = PersistentList.empty();
+        bookingPositions = new HashMap<>();
+        occupancy = new OccupancyIndex();
         technicianRotation = new CircularList<>();
+        dispatcher = new TechnicianDispatcher(technicianRotation, occupancy);
+        calendar = new BusinessCalendar();
+        openingSearch = new OpeningSearch(calendar, occupancy);
 
     }
 
@@ -36,7 +75,7 @@ public class ClinicManager {
         Scanner scanner = new Scanner(System.in);
         System.out.println("Clinic Manager is running.");
         loadProvidersFromFile("providers.txt");
-        Sort.provider(providers);
+        loadClosuresFromFile("closures.txt");
         print(providers);
         System.out.println("\nRotation list for the technicians.");
         print(technicianRotation);
@@ -59,6 +98,8 @@ public class ClinicManager {
     private void loadProvidersFromFile(String filename) {
         try {
             Scanner fileScanner = new Scanner(new File(filename));
+            List<Technician> technicians = new List<>(); // In load order, for the rotation
+            Provider lastLoaded = null;
             while (fileScanner.hasNextLine()) {
                 String currentLine = fileScanner.nextLine();
                 commandParts = currentLine.split("  ");
@@ -77,8 +118,12 @@ public class ClinicManager {
                     continue;
                 }
                 providers.add(provider);
+                lastLoaded = provider;
+                if (provider instanceof Technician tech) {
+                    technicians.add(tech);
+                }
             }
-            initializeTechnicianRotation();
+            initializeTechnicianRotation(technicians, lastLoaded);
         } catch (FileNotFoundException e) {
             System.err.println("Providers file not found or accessible: " + e);
         } catch (IllegalArgumentException e) {
@@ -88,20 +133,63 @@ public class ClinicManager {
 
 
 
-    private void initializeTechnicianRotation() {
+    /**
+     * Loads the days the clinic is closed, one MM/DD/YYYY date per line. The file is optional;
+     * without it only weekends are closed.
+     * @param filename Path of the closures file
+     */
+    private void loadClosuresFromFile(String filename) {
+        File file = new File(filename);
+        if (!file.exists()) {
+            return;
+        }
+        try (Scanner fileScanner = new Scanner(file)) {
+            while (fileScanner.hasNextLine()) {
+                String line = fileScanner.nextLine().trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    calendar.close(Date.parse(line));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping closure: " + e.getMessage());
+                }
+            }
+        } catch (FileNotFoundException e) {
+            System.err.println("Closures file not found or accessible: " + e);
+        }
+    }
+
+    /**
+     * Builds the technician rotation in reverse load order. The roster itself is kept in profile
+     * order, so the load order is passed in separately.
+     * @param technicians Technicians in the order they were loaded
+     * @param lastLoaded Last provider loaded; the rotation starts there if it is a technician
+     */
+    private void initializeTechnicianRotation(List<Technician> technicians, Provider lastLoaded) {
         technicianRotation = new CircularList<>();
+        dispatcher = new TechnicianDispatcher(technicianRotation, occupancy);
         Technician head = null;
-        for (int i = providers.size() - 1; i >= 0; i--) {
-            if (providers.get(i) instanceof Technician tech) {
-                technicianRotation.add(tech);
-                if (i == providers.size() - 1) {
-                    head = tech;
-                }
+        for (int i = technicians.size() - 1; i >= 0; i--) {
+            Technician tech = technicians.get(i);
+            technicianRotation.add(tech);
+            if (tech == lastLoaded) {
+                head = tech;
             }
         }
         technicianRotation.setHead(head);
     }
 
+    /**
+     * Finds a provider by profile with a binary search over the ordered roster.
+     * @param profile Profile to look for
+     * @return The provider with that profile, or null if there is none
+     */
+    private Provider findProvider(Profile profile) {
+        int index = providers.search(provider -> profile.compareTo(provider.getProfile()));
+        return index == -1 ? null : providers.get(index);
+    }
+
     private Provider findProviderByNPI(String npi) {
         for (Provider provider : providers) {
             if (provider instanceof Doctor && ((Doctor) provider).getNpi().equals(npi)) {
@@ -149,6 +237,9 @@ public class ClinicManager {
                 case "PC":
                     displayExpectedCreditAmounts();
                     break;
+                case "S":
+                    searchOpenings();
+                    break;
                 default:
                     System.out.println("Invalid command: " + command);
                     break;
@@ -163,11 +254,11 @@ public class ClinicManager {
         if (commandParts.length < 7) {
             throw new IllegalArgumentException("Missing data tokens for office appointment.");
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         if (!dateChecks(appointmentDate)){
             return false;
         }
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
             if (!dob.isValid()) {
                 System.out.println("Patient DOB: " + dob + " is not a valid date.");
                 return false; // Exit the method if the DOB is invalid
@@ -200,11 +291,11 @@ public class ClinicManager {
         if (commandParts.length < 7) {
             throw new IllegalArgumentException("Missing data tokens for office appointment.");
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         if (!dateChecks(appointmentDate)){
             return false;
         }
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
         if (!dob.isValid()) {
             System.out.println("Patient DOB: " + dob + " is not a valid date.");
             return false; // Exit the method if the DOB is invalid
@@ -241,11 +332,11 @@ public class ClinicManager {
         if (commandParts.length < 7) {
             throw new IllegalArgumentException("Missing data tokens for office appointment.");
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         if (!dateChecks(appointmentDate)) {
             return false;
         }
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
         if (!dob.isValid()) {
             System.out.println("Patient DOB: " + dob + " is not a valid date.");
             return false; // Exit the method if the DOB is invalid
@@ -284,11 +375,11 @@ public class ClinicManager {
         if (commandParts.length < 6) {
             throw new IllegalArgumentException("Missing data tokens for office appointment.");
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         if (!dateChecks(appointmentDate)) {
             return false;
         }
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
         if (!dob.isValid()) {
             System.out.println("Patient DOB: " + dob + " is not a valid date.");
             return false; // Exit the method if the DOB is invalid
@@ -313,8 +404,19 @@ public class ClinicManager {
         return true;
     }
 
+    /**
+     * Parses the MM/DD/YYYY date in a command token without splitting it.
+     * @param index Position of the token in the command
+     * @return The date in the token, which is not yet validated
+     */
+    private Date dateAt(int index) {
+        return Date.parse(commandParts[index]);
+    }
 
     public boolean dateChecks(Date date){
+            if (calendar.isBookable(date)) {
+                return true; // One bit test; the checks below only run to explain a rejection
+            }
             if (!date.isValid()) {
                 System.out.println("Appointment Date: " + date + " is not a valid date.");
                 return false;
@@ -331,6 +433,10 @@ public class ClinicManager {
                 System.out.println("Appointment Date: " + date + " is not within six months from today.");
                 return false;
             }
+            if (calendar.isClosed(date)) {
+                System.out.println("Appointment Date: " + date + " is a day the clinic is closed.");
+                return false;
+            }
             return true;
         }
 
@@ -339,19 +445,19 @@ public class ClinicManager {
                 return;
             }
             // Validate and schedule an office appointment
-            Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+            Date appointmentDate = dateAt(1);
             String firstName = commandParts[3];
             String lastName = commandParts[4];
             String npi = commandParts[6];
             Provider doctor = findProviderByNPI(npi);
             int timeslotNumber = Integer.parseInt(commandParts[2]);
             Timeslot timeslot = Timeslot.fromNumber(timeslotNumber);
-            Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+            Date dob = dateAt(5);
             if (doctor == null) {
                 System.out.println(commandParts[6] + " - provider doesn't exist.");
                 return;
             }
-            if (!doctor.isAvailableAt(appointmentDate, timeslot, Appointments)) {
+            if (!doctor.isAvailableAt(appointmentDate, timeslot, occupancy)) {
                 System.out.println("Provider " + doctor.toString() + " is not available on " + appointmentDate + " at " + timeslot);
                 return;
             }
@@ -359,7 +465,7 @@ public class ClinicManager {
             Patient temp = new Patient(p);
             Person g = new Person(p);
             Appointment newAppointment = new Appointment(appointmentDate, timeslot, g, doctor);
-            Appointments.add(newAppointment);
+            book(newAppointment);
             System.out.println(newAppointment + " booked.");
         }
 
@@ -372,12 +478,12 @@ public class ClinicManager {
             return;
         }
 
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         int timeslotNumber = Integer.parseInt(commandParts[2]);
             Timeslot timeslot = Timeslot.fromNumber(timeslotNumber);
             String firstName = commandParts[3];
             String lastName = commandParts[4];
-            Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+            Date dob = dateAt(5);
             String imagingType = commandParts[6].toUpperCase();
             Radiology room;
              room = Radiology.valueOf(imagingType);
@@ -385,21 +491,13 @@ public class ClinicManager {
             // Find the next available technician
         Profile p = new Profile(firstName, lastName, dob);
 
-        int counter = 0;
-        for (Technician tech: technicianRotation) {
-            if (!tech.isAvailableAt(appointmentDate, timeslot, Appointments)) {
-                counter++;
-                continue;
-            }
-            Location techLocation = tech.getLocation();
-            if (techLocation.roomAvailable(appointmentDate, timeslot, room, Appointments)) {
-                Imaging imagingAppt = new Imaging(appointmentDate, timeslot, new Person(p), tech, room);
-                Appointments.add(imagingAppt);
-                System.out.println(imagingAppt + " booked.");
-                technicianRotation.setHead(technicianRotation.circleGet(++counter));
-                return;
-            }
-            counter++;
+        // The dispatcher moves the rotation on past the technician it picks
+        Technician tech = dispatcher.dispatch(appointmentDate, timeslot, room);
+        if (tech != null) {
+            Imaging imagingAppt = new Imaging(appointmentDate, timeslot, new Person(p), tech, room);
+            book(imagingAppt);
+            System.out.println(imagingAppt + " booked.");
+            return;
         }
         // If all technicians are busy at specified appointment timeslot
         System.out.println("Cannot find an available technician at all locations for "
@@ -416,19 +514,19 @@ public class ClinicManager {
         if (!isValidCancel()) {
             return;
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         int timeslotNumber = Integer.parseInt(commandParts[2]);
         Timeslot timeslot = Timeslot.fromNumber(timeslotNumber);
         String firstName = commandParts[3];
         String lastName = commandParts[4];
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
         Profile patientToCancel = new Profile(firstName, lastName, dob);
         Appointment appointmentToCancel = new Appointment(appointmentDate, timeslot, new Person(patientToCancel), null);
         for (Appointment appointment : Appointments) {
             if (appointment.getDate().equals(appointmentDate)
                     && appointment.getTimeslot().equals(timeslot)
                     && appointment.getPatient().equals(patientToCancel)) {
-                Appointments.remove(appointment);
+                unbook(appointment);
                 System.out.println(appointmentToCancel + " - appointment has been canceled.");
                 return;
             }
@@ -444,12 +542,12 @@ public class ClinicManager {
         if(!isValidReschedule()){
             return;
         }
-        Date appointmentDate = new Date(Integer.parseInt(commandParts[1].split("/")[2]), Integer.parseInt(commandParts[1].split("/")[0]), Integer.parseInt(commandParts[1].split("/")[1]));
+        Date appointmentDate = dateAt(1);
         int timeslotNumber = Integer.parseInt(commandParts[2]);
         Timeslot oldtimeslot = Timeslot.fromNumber(timeslotNumber);
         String firstName = commandParts[3];
         String lastName = commandParts[4];
-        Date dob = new Date(Integer.parseInt(commandParts[5].split("/")[2]), Integer.parseInt(commandParts[5].split("/")[0]), Integer.parseInt(commandParts[5].split("/")[1]));
+        Date dob = dateAt(5);
         int newTimeslotNumber = Integer.parseInt(commandParts[6]);
         Timeslot newTimeslot = Timeslot.fromNumber(newTimeslotNumber);
         Profile patientProfile = new Profile(firstName, lastName, dob);
@@ -483,50 +581,253 @@ public class ClinicManager {
             return;
         }
         if (!((Provider)appointmentToReschedule.getProvider()).isAvailableAt(appointmentToReschedule.getDate(), newTimeslot,
-                Appointments)) {
+                occupancy)) {
             System.out.println(appointmentToReschedule.getProvider() + " is not available at slot " + commandParts[6] + ".");
             return;
         }
-        appointmentToReschedule.changeTimeslot(newTimeslot);
-        System.out.println("Rescheduled to " + appointmentToReschedule);
+        System.out.println("Rescheduled to " + moveToTimeslot(appointmentToReschedule, newTimeslot));
+
+    }
+    /**
+     * Adds a new appointment to the appointment list, the ordered indexes, the occupancy index
+     * and the billing version of the bookings.
+     * @param appointment Appointment that was booked
+     */
+    private void book(Appointment appointment) {
+        Appointments.add(appointment);
+        occupancy.add(appointment);
+        byDateTime.add(appointment);
+        byCounty.add(appointment);
+        bookingPositions.put(appointment, bookings.size());
+        bookings = bookings.add(appointment);
+    }
+
+    /**
+     * Removes a canceled appointment from the appointment list, the ordered indexes, the occupancy
+     * index and the billing version of the bookings. The billing reports do not depend on order,
+     * so the last booking is moved into the freed position instead of shifting the rest.
+     * @param appointment Appointment that was canceled
+     */
+    private void unbook(Appointment appointment) {
+        Appointments.remove(appointment);
+        occupancy.remove(appointment);
+        byDateTime.remove(appointment);
+        byCounty.remove(appointment);
+        int position = bookingPositions.remove(appointment);
+        Appointment last = bookings.get(bookings.size() - 1);
+        if (last != appointment) {
+            bookings = bookings.set(position, last);
+            bookingPositions.put(last, position);
+        }
+        bookings = bookings.removeLast();
+    }
+
+    /**
+     * Replaces a booked appointment with a copy at another timeslot. The appointment itself is
+     * left unchanged, so a version of the bookings a report is holding stays as it was. The
+     * copy takes the old one's place in the appointment list and the billing version, and the
+     * ordered indexes and occupancy index, which depend on the timeslot, swap one for the other.
+     * @param appointment Appointment being rescheduled
+     * @param newTimeslot Timeslot it moves to
+     * @return The rescheduled appointment
+     */
+    private Appointment moveToTimeslot(Appointment appointment, Timeslot newTimeslot) {
+        Appointment moved = appointment.atTimeslot(newTimeslot);
+        Appointments.set(Appointments.indexOf(appointment), moved);
+        byDateTime.remove(appointment);
+        byCounty.remove(appointment);
+        occupancy.remove(appointment);
+        byDateTime.add(moved);
+        byCounty.add(moved);
+        occupancy.add(moved);
+        int position = bookingPositions.remove(appointment);
+        bookings = bookings.set(position, moved);
+        bookingPositions.put(moved, position);
+        return moved;
+    }
 
+    /**
+     * Removes every appointment from the appointment list, the ordered indexes, the occupancy index
+     * and the billing version of the bookings.
+     */
+    private void clearBookings() {
+        Appointments.clear();
+        occupancy.clear();
+        byDateTime.clear();
+        byCounty.clear();
+        bookings = PersistentList.empty();
+        bookingPositions.clear();
     }
-    private void listSortedByAppointment() {
+
+    /**
+     * Prints the appointments in date/time/provider order, read straight from the ordered index.
+     * With an offset and limit (PA,offset,limit) only that page is printed, in O(log n + limit).
+     */
+    private void listSortedByAppointment() throws IOException {
+        int[] page = pageBounds();
         System.out.println("\n** List of appointments, ordered by date/time/provider.");
-        Sort.appointment(Appointments, Sort.SortType.APPOINTMENT_SORTING);
-        System.out.println(Appointments);
+        if (page == null) {
+            byDateTime.writeTo(System.out);
+        } else {
+            print(byDateTime.iterator(page[0]), page[1]);
+        }
         System.out.println("** end of list **");
     }
 
     /**
-     * Sorts the appointment list by patient, then prints it.
+     * Sorts the appointment list by patient, then prints it one line at a time.
+     * With an offset and limit (PP,offset,limit) only that page is selected, without a full sort.
      */
-    private void listSortedByPatient() {
-        Sort.appointment(Appointments, Sort.SortType.PATIENT_SORTING);
-        System.out.println(Appointments);
+    private void listSortedByPatient() throws IOException {
+        int[] page = pageBounds();
+        if (page == null) {
+            Sort.appointment(Appointments, Sort.SortType.PATIENT_SORTING);
+            Appointments.writeTo(System.out);
+        } else {
+            Sort.page(Appointments, appointment -> true, Sort.comparator(Sort.SortType.PATIENT_SORTING),
+                    page[0], page[1]).writeTo(System.out);
+        }
     }
 
     /**
-     * Sorts the appointment list by county, then prints it.
+     * Prints the appointments in county/date/time order, read straight from the ordered index.
+     * With an offset and limit (PL,offset,limit) only that page is printed, in O(log n + limit).
      */
-    private void listSortedByLocation() {
+    private void listSortedByLocation() throws IOException {
+        int[] page = pageBounds();
         System.out.println("\n** List of appointments, ordered by county/date/time.");
-        Sort.appointment(Appointments, Sort.SortType.LOCATION_SORTING);
-        System.out.println(Appointments);
+        if (page == null) {
+            byCounty.writeTo(System.out);
+        } else {
+            print(byCounty.iterator(page[0]), page[1]);
+        }
         System.out.println("** end of list **");
     }
 
+    /**
+     * Lists the earliest free office appointments for a specialty, such as S,FAMILY,EDISON,3.
+     * The location and count are optional; without a count the first DEFAULT_OPENINGS are listed.
+     */
+    private void searchOpenings() {
+        if (commandParts.length < 2 || commandParts.length > 4) {
+            throw new IllegalArgumentException("Expected S,specialty[,location][,count].");
+        }
+        Specialty specialty;
+        try {
+            specialty = Specialty.valueOf(commandParts[1].trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(commandParts[1] + " - specialty doesn't exist.");
+        }
+        Location location = null;
+        int count = DEFAULT_OPENINGS;
+        int next = 2;
+        if (next < commandParts.length && !isWholeNumber(commandParts[next].trim())) {
+            try {
+                location = Location.valueOf(commandParts[next].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(commandParts[next] + " - location doesn't exist.");
+            }
+            next++;
+        }
+        if (next < commandParts.length) {
+            String countText = commandParts[next].trim();
+            if (!isWholeNumber(countText) || next != commandParts.length - 1) {
+                throw new IllegalArgumentException("Expected S,specialty[,location][,count].");
+            }
+            try {
+                count = Integer.parseInt(countText);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Count is too large.");
+            }
+            if (count == 0) {
+                throw new IllegalArgumentException("Count must be at least 1.");
+            }
+        }
+        List<OpeningSearch.Opening> openings = openingSearch.earliest(providers, specialty, location, count);
+        String where = location == null ? "" : " at " + location.name();
+        if (openings.isEmpty()) {
+            System.out.println("No openings for " + specialty + where + " within six months.");
+            return;
+        }
+        System.out.println("\n** Earliest openings for " + specialty + where + ".");
+        print(openings);
+        System.out.println("** end of list **");
+    }
+
+    /**
+     * @param text Text to check
+     * @return True if the text is one or more digits
+     */
+    private static boolean isWholeNumber(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the optional offset and limit of a listing command, such as PA,100,50.
+     * @return The offset and limit, or null if the whole list was asked for
+     */
+    private int[] pageBounds() {
+        if (commandParts.length == 1) {
+            return null;
+        }
+        if (commandParts.length != 3) {
+            throw new IllegalArgumentException("Expected " + commandParts[0] + " or " + commandParts[0] + ",offset,limit.");
+        }
+        int offset;
+        int limit;
+        try {
+            offset = Integer.parseInt(commandParts[1].trim());
+            limit = Integer.parseInt(commandParts[2].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Offset and limit must be whole numbers.");
+        }
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative.");
+        }
+        return new int[]{offset, limit};
+    }
+
+    /**
+     * Streams a snapshot of the appointments for aggregation, in parallel once it is large
+     * enough for the split to pay off.
+     * @param snapshot Version of the bookings to aggregate
+     * @return Stream over every appointment in the snapshot
+     */
+    private Stream<Appointment> appointmentStream(PersistentList<Appointment> snapshot) {
+        return snapshot.size() >= PARALLEL_THRESHOLD ? snapshot.parallelStream() : snapshot.stream();
+    }
+
     /**
      * Helper method to print a list of any type, delimited by \n.
      * @param list List to print
      * @param <T> Type of list
      */
-    private <T> void print(List<T> list) {
+    private <T> void print(Iterable<T> list) {
         for(T item : list) {
             System.out.println(item);
         }
     }
 
+    /**
+     * Helper method to print at most limit items from an iterator, delimited by \n.
+     * @param items Iterator positioned at the first item to print
+     * @param limit Largest number of items to print
+     * @param <T> Type of items
+     */
+    private <T> void print(Iterator<T> items, int limit) {
+        for (int printed = 0; printed < limit && items.hasNext(); printed++) {
+            System.out.println(items.next());
+        }
+    }
+
     /**
      * Helper method to print a Circular List of Technician.
      * @param tList List to print
@@ -552,15 +853,7 @@ public class ClinicManager {
      * @param patients Patients list to sort
      */
     private void sortPatient(List<Profile> patients){
-        for(int i = 1; i < patients.size(); i++){
-            Profile profKey = patients.get(i);
-            int j = i - 1;
-            while (j >= 0 && profKey.compareTo(patients.get(j)) < 0) {
-                patients.set(j+1, patients.get(j));
-                j--;
-            }
-            patients.set(j+1, profKey);
-        }
+        Sort.list(patients, Profile::compareTo);
     }
 
     /**
@@ -568,10 +861,11 @@ public class ClinicManager {
      */
     private void displayBillingStatements() {
         System.out.println("\n** Billing statement ordered by patient. **");
+        PersistentList<Appointment> snapshot = bookings; // Frozen for the whole statement
 
         // Aggregate List of Unique Patients
-        List<Profile> patients = new List<>();
-        for (Appointment appointment: Appointments) {
+        List<Profile> patients = new IndexedList<>();
+        for (Appointment appointment: snapshot) {
             Profile currPatient = appointment.getPatient().getProfile();
             if (!patients.contains(currPatient)) patients.add(currPatient);
         }
@@ -581,45 +875,59 @@ public class ClinicManager {
         // Tally up their appointments, and print
         int count = 1;
         for (Profile patient: patients) {
-            double amountDue = 0;
-            for (Appointment appointment: Appointments) {
-                if (appointment.getPatient().getProfile().equals(patient)) {
-                    amountDue += ((Provider) (appointment.getProvider())).rate();
-                }
-            }
+            double amountDue = appointmentStream(snapshot)
+                    .filter(appointment -> appointment.getPatient().getProfile().equals(patient))
+                    .mapToInt(appointment -> ((Provider) (appointment.getProvider())).rate())
+                    .sum();
             System.out.printf("(%d) %s [due: $%,.2f]\n", count, patient, amountDue);
             count++;
         }
 
         System.out.println("** end of list **");
         // Clear appointments afterwards
-        for (int i = Appointments.size() - 1; i >= 0; i--) {
-            Appointments.remove(Appointments.get(i));
-        }
+        clearBookings();
     }
 
 
 
+    /**
+     * Displays the list of office appointments, ordered by county/date/time.
+     * With an offset and limit (PO,offset,limit) only that page is selected.
+     */
     private void displayOfficeAppointments() {
-        System.out.println("\n** List of office appointments ordered by county/date/time.");
-        Sort.appointment(Appointments, Sort.SortType.LOCATION_SORTING);
-        for (Appointment appointment: Appointments) {
-            if (!(appointment instanceof Imaging)) {
-                System.out.println(appointment);
-            }
-        }
-        System.out.println("** end of list **");
+        displayAppointments("\n** List of office appointments ordered by county/date/time.", false);
     }
 
     /**
      * Displays the list of radiology appointments, ordered by county/date/time.
+     * With an offset and limit (PI,offset,limit) only that page is selected.
      */
     private void displayImagingAppointments() {
-        System.out.println("\n** List of radiology appointments ordered by county/date/time.");
-        Sort.appointment(Appointments, Sort.SortType.LOCATION_SORTING);
-        for (Appointment appointment: Appointments) {
-            if (appointment instanceof Imaging) {
+        displayAppointments("\n** List of radiology appointments ordered by county/date/time.", true);
+    }
+
+    /**
+     * Prints either the office or the imaging appointments in county/date/time order, read
+     * straight from the ordered index. A page skips the first offset matching appointments and
+     * stops after limit more, so nothing past the page is visited and nothing is sorted.
+     * @param header Line printed before the list
+     * @param imaging True for imaging appointments, false for office appointments
+     */
+    private void displayAppointments(String header, boolean imaging) {
+        int[] page = pageBounds();
+        int skip = page == null ? 0 : page[0];
+        int limit = page == null ? Integer.MAX_VALUE : page[1];
+        System.out.println(header);
+        for (Iterator<Appointment> it = byCounty.iterator(); limit > 0 && it.hasNext(); ) {
+            Appointment appointment = it.next();
+            if (appointment instanceof Imaging != imaging) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
                 System.out.println(appointment);
+                limit--;
             }
         }
         System.out.println("** end of list **");
@@ -630,13 +938,12 @@ public class ClinicManager {
      */
     private void displayExpectedCreditAmounts() {
         System.out.println("\n** Credit amount ordered by provider. **");
-        Sort.provider(providers);
+        PersistentList<Appointment> snapshot = bookings; // Frozen for the whole statement
         int count = 1;
         for (Provider provider: providers) {
-            int apptCount = 0;
-            for (Appointment appointment: Appointments) {
-                if (appointment.provider.equals(provider)) apptCount++;
-            }
+            long apptCount = appointmentStream(snapshot)
+                    .filter(appointment -> appointment.provider.equals(provider))
+                    .count();
             double creditAmount = apptCount * provider.rate();
             System.out.printf("(%d) %s [credit amount: $%.2f]\n", count, provider.getProfile(), creditAmount);
             count++;
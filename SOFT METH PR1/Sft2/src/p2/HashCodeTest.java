@@ -0,0 +1,113 @@
+package p2;
+
+import org.junit.Test;
+import util.Date;
+
+import static org.junit.Assert.*;
+
+/**
+ * Property tests for the hashCode/equals contract across the domain model.
+ * Values are drawn from small pools so that equal pairs come up often, and every
+ * pair is checked: whenever two objects are equal, their hash codes must match.
+ */
+public class HashCodeTest {
+    private static final int SAMPLES = 300;
+
+    private final RandomFixtures fixtures = new RandomFixtures();
+
+    /**
+     * Checks every pair in the sample: equal objects must have equal hash codes,
+     * and hashCode must return the same value when called again.
+     *
+     * @return number of equal pairs that were found, so callers can check coverage
+     */
+    private static int assertContract(Object[] samples) {
+        int equalPairs = 0;
+        for (Object a : samples) {
+            assertEquals(a.hashCode(), a.hashCode());
+            for (Object b : samples) {
+                if (a.equals(b)) {
+                    equalPairs++;
+                    assertEquals(a + " equals " + b, a.hashCode(), b.hashCode());
+                }
+            }
+        }
+        return equalPairs;
+    }
+
+    /**
+     * Tests the contract for dates.
+     */
+    @Test
+    public void testDateContract() {
+        Object[] samples = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = fixtures.randomDate();
+        }
+        assertTrue(assertContract(samples) > SAMPLES);
+    }
+
+    /**
+     * Tests the contract for timeslots.
+     */
+    @Test
+    public void testTimeslotContract() {
+        Object[] samples = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = fixtures.randomTimeslot();
+        }
+        assertTrue(assertContract(samples) > SAMPLES);
+    }
+
+    /**
+     * Tests the contract for profiles, whose names compare without regard to case.
+     */
+    @Test
+    public void testProfileContract() {
+        Object[] samples = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = fixtures.randomProfile();
+        }
+        assertTrue(assertContract(samples) > SAMPLES);
+        Profile upper = new Profile("ANN", "LEE", new Date(1990, 1, 1));
+        Profile lower = new Profile("ann", "lee", new Date(1990, 1, 1));
+        assertEquals(upper, lower);
+        assertEquals(upper.hashCode(), lower.hashCode());
+    }
+
+    /**
+     * Tests the contract for people and providers mixed together, since a Person
+     * can be equal to a Provider with the same profile.
+     */
+    @Test
+    public void testPersonAndProviderContract() {
+        Object[] samples = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = fixtures.random().nextBoolean() ? new Person(fixtures.randomProfile()) : fixtures.randomProvider();
+        }
+        assertTrue(assertContract(samples) > SAMPLES);
+    }
+
+    /**
+     * Tests the contract for office and imaging appointments mixed together.
+     */
+    @Test
+    public void testAppointmentContract() {
+        Object[] samples = new Object[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = fixtures.randomAppointment();
+        }
+        assertTrue(assertContract(samples) >= SAMPLES);
+    }
+
+    /**
+     * Verifies that rescheduling an appointment does not change its hash code.
+     */
+    @Test
+    public void testRescheduleKeepsHash() {
+        Appointment appointment = fixtures.randomAppointment();
+        int before = appointment.hashCode();
+        appointment.changeTimeslot(Timeslot.fromNumber(12));
+        assertEquals(before, appointment.hashCode());
+    }
+}
@@ -46,6 +46,17 @@ public class Imaging extends Appointment {
         this.room = room;
     }
 
+    /**
+     * Creates a copy of the imaging appointment, in the same room, at another timeslot.
+     *
+     * @param newTimeslot the timeslot of the copy
+     * @return the rescheduled copy
+     */
+    @Override
+    public Imaging atTimeslot(Timeslot newTimeslot) {
+        return new Imaging(date, newTimeslot, patient, provider, room);
+    }
+
     /**
      * Converts the Imaging appointment's information to a string representation.
      *
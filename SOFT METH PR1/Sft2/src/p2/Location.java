@@ -10,7 +10,6 @@
 package p2;
 
 import util.Date;
-import util.List;
 
 /**
  * The Location enum represents different clinic locations.
@@ -46,24 +45,17 @@ public enum Location {
     }
 
     /**
-     * Determines if a radiology room is available at this location for a given date and timeslot.
+     * Determines if a radiology room is available at this location for a given date and timeslot,
+     * using the booked timeslot masks.
      *
-     * @param apptDate    the date of the appointment
-     * @param timeslot    the timeslot of the appointment
-     * @param radiology   the type of radiology room required (e.g., X-ray, ultrasound)
-     * @param appointments the list of existing appointments
+     * @param apptDate  the date of the appointment
+     * @param timeslot  the timeslot of the appointment
+     * @param radiology the type of radiology room required (e.g., X-ray, ultrasound)
+     * @param occupancy the booked timeslots of every room
      * @return true if the radiology room is available, false otherwise
      */
-    public boolean roomAvailable(Date apptDate, Timeslot timeslot, Radiology radiology, List<Appointment> appointments) {
-        for (Appointment appointment : appointments) {
-            if (appointment instanceof Imaging imaging) {
-                if (!appointment.getDate().equals(apptDate)) continue;
-                if (!appointment.getTimeslot().equals(timeslot)) continue;
-                Location aptLocation = ((Provider) (appointment.getProvider())).getLocation();
-                if (this.equals(aptLocation) && imaging.getRoom().equals(radiology)) return false;
-            }
-        }
-        return true;
+    public boolean roomAvailable(Date apptDate, Timeslot timeslot, Radiology radiology, OccupancyIndex occupancy) {
+        return occupancy.isRoomFree(this, radiology, apptDate, timeslot);
     }
 
     /**
@@ -0,0 +1,157 @@
+package p2;
+
+import util.Date;
+import util.LongIntMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of which timeslots are booked, as a 12-bit mask per provider per day and per
+ * radiology room per day, so checking whether a provider or a room is free is one map lookup
+ * and one bit test instead of a scan over every appointment. Bit n - 1 of a mask is set when
+ * timeslot n is taken.
+ *
+ * Masks live in LongIntMaps keyed by an id in the high 32 bits and the epoch day in the low 32
+ * bits; days with nothing booked have no entry. A room's id combines the location and radiology
+ * ordinals. Providers are given ids on first use, matched with Provider.equals, so providers that
+ * the appointment list treats as the same person share one mask. Dates are expected to be valid,
+ * as they are once booked.
+ */
+public class OccupancyIndex {
+    private static final int ROOMS_PER_LOCATION = Radiology.values().length;
+
+    private final LongIntMap providerSlots = new LongIntMap();
+    private final LongIntMap roomSlots = new LongIntMap();
+    private final Map<Provider, Integer> providerIds = new HashMap<>();
+
+    /**
+     * Marks the appointment's timeslot as taken for its provider, and for its room if it is an
+     * imaging appointment.
+     *
+     * @param appointment the appointment that was booked
+     */
+    public void add(Appointment appointment) {
+        Provider provider = (Provider) appointment.getProvider();
+        int bit = bit(appointment.getTimeslot());
+        long key = providerKey(provider, appointment.getDate());
+        providerSlots.put(key, providerSlots.getOrDefault(key, 0) | bit);
+        if (appointment instanceof Imaging imaging) {
+            long room = roomKey(provider.getLocation(), imaging.getRoom(), appointment.getDate());
+            roomSlots.put(room, roomSlots.getOrDefault(room, 0) | bit);
+        }
+    }
+
+    /**
+     * Marks the appointment's timeslot as free again for its provider, and for its room if it is
+     * an imaging appointment.
+     *
+     * @param appointment the appointment that was canceled, or is about to move
+     */
+    public void remove(Appointment appointment) {
+        Provider provider = (Provider) appointment.getProvider();
+        int bit = bit(appointment.getTimeslot());
+        release(providerSlots, providerKey(provider, appointment.getDate()), bit);
+        if (appointment instanceof Imaging imaging) {
+            release(roomSlots, roomKey(provider.getLocation(), imaging.getRoom(), appointment.getDate()), bit);
+        }
+    }
+
+    /**
+     * Frees every timeslot of every provider and room.
+     */
+    public void clear() {
+        providerSlots.clear();
+        roomSlots.clear();
+    }
+
+    /**
+     * Checks if a provider has nothing booked at a date and timeslot.
+     *
+     * @param provider the provider to check
+     * @param date     the date to check
+     * @param timeslot the timeslot to check
+     * @return true if the timeslot is free for the provider
+     */
+    public boolean isFree(Provider provider, Date date, Timeslot timeslot) {
+        return (bookedSlots(provider, date) & bit(timeslot)) == 0;
+    }
+
+    /**
+     * Gets the timeslots a provider has booked on a day.
+     *
+     * @param provider the provider to look up
+     * @param date     the day to look up
+     * @return the mask of booked timeslots, bit n - 1 for timeslot n
+     */
+    public int bookedSlots(Provider provider, Date date) {
+        return providerSlots.getOrDefault(providerKey(provider, date), 0);
+    }
+
+    /**
+     * Checks if a radiology room at a location has nothing booked at a date and timeslot.
+     *
+     * @param location  the location of the room
+     * @param radiology the type of room
+     * @param date      the date to check
+     * @param timeslot  the timeslot to check
+     * @return true if the room is free
+     */
+    public boolean isRoomFree(Location location, Radiology radiology, Date date, Timeslot timeslot) {
+        return (bookedRoomSlots(location, radiology, date) & bit(timeslot)) == 0;
+    }
+
+    /**
+     * Gets the timeslots a radiology room at a location has booked on a day.
+     *
+     * @param location  the location of the room
+     * @param radiology the type of room
+     * @param date      the day to look up
+     * @return the mask of booked timeslots, bit n - 1 for timeslot n
+     */
+    public int bookedRoomSlots(Location location, Radiology radiology, Date date) {
+        return roomSlots.getOrDefault(roomKey(location, radiology, date), 0);
+    }
+
+    /**
+     * Gets the mask bit of a timeslot.
+     *
+     * @param timeslot the timeslot
+     * @return 1 shifted left by the slot number minus one
+     */
+    static int bit(Timeslot timeslot) {
+        return 1 << (timeslot.getSlot() - 1);
+    }
+
+    /**
+     * Clears a bit in a mask, dropping the entry once the mask is empty.
+     */
+    private static void release(LongIntMap masks, long key, int bit) {
+        int mask = masks.getOrDefault(key, 0) & ~bit;
+        if (mask == 0) {
+            masks.remove(key);
+        } else {
+            masks.put(key, mask);
+        }
+    }
+
+    /**
+     * Packs a room's location and type and a day into one map key.
+     */
+    private static long roomKey(Location location, Radiology radiology, Date date) {
+        long room = (long) location.ordinal() * ROOMS_PER_LOCATION + radiology.ordinal();
+        return room << 32 | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Packs a provider's id and a day into one map key.
+     */
+    private long providerKey(Provider provider, Date date) {
+        Integer id = providerIds.get(provider);
+        if (id == null) {
+            id = providerIds.size();
+            providerIds.put(provider, id);
+        }
+        return (long) id << 32 | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,158 @@
+package p2;
+
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the occupancy masks agree with scanning the appointment list.
+ */
+public class OccupancyIndexTest {
+    private final Random random = new Random(RandomFixtures.SEED);
+
+    /**
+     * Reference check that scans the appointment list for one the provider already has at
+     * the date and timeslot.
+     */
+    static boolean providerFree(Provider provider, Date day, Timeslot timeslot, List<Appointment> appointments) {
+        for (Appointment appt : appointments) {
+            if (appt.getProvider().equals(provider)
+                    && appt.getTimeslot().equals(timeslot)
+                    && appt.getDate().equals(day)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reference check that scans the appointment list for an imaging appointment holding the
+     * room at the location, date and timeslot.
+     */
+    static boolean roomFree(Location location, Date day, Timeslot timeslot, Radiology room,
+                            List<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            if (appointment instanceof Imaging imaging
+                    && appointment.getDate().equals(day)
+                    && appointment.getTimeslot().equals(timeslot)
+                    && ((Provider) appointment.getProvider()).getLocation().equals(location)
+                    && imaging.getRoom().equals(room)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Books and cancels random appointments, then compares every provider, day and timeslot
+     * with a scan of the list.
+     */
+    @Test
+    public void testMatchesListScan() {
+        Provider[] providers = {
+                new Doctor(new Profile("Ann", "Lee", Date.of(1970, 1, 1)), Location.BRIDGEWATER, Specialty.FAMILY, "01"),
+                new Doctor(new Profile("Ben", "Ray", Date.of(1971, 2, 2)), Location.EDISON, Specialty.PEDIATRICIAN, "02"),
+                new Technician(new Profile("Cara", "Kim", Date.of(1980, 3, 3)), Location.PISCATAWAY, 120),
+        };
+        Date[] days = {Date.of(2026, 11, 2), Date.of(2026, 11, 3), Date.of(2027, 1, 4)};
+        List<Appointment> appointments = new List<>();
+        OccupancyIndex occupancy = new OccupancyIndex();
+        for (int step = 0; step < 2_000; step++) {
+            if (appointments.isEmpty() || random.nextInt(3) > 0) {
+                Provider provider = providers[random.nextInt(providers.length)];
+                Date day = days[random.nextInt(days.length)];
+                Timeslot timeslot = Timeslot.fromNumber(1 + random.nextInt(Timeslot.COUNT));
+                if (provider.isAvailableAt(day, timeslot, occupancy)) {
+                    Appointment appointment = new Appointment(day, timeslot,
+                            new Person(new Profile("P" + step, "Q", Date.of(1990, 1, 1))), provider);
+                    appointments.add(appointment);
+                    occupancy.add(appointment);
+                }
+            } else {
+                Appointment appointment = appointments.get(random.nextInt(appointments.size()));
+                appointments.remove(appointment);
+                occupancy.remove(appointment);
+            }
+        }
+        for (Provider provider : providers) {
+            for (Date day : days) {
+                for (int slot = 1; slot <= Timeslot.COUNT; slot++) {
+                    Timeslot timeslot = Timeslot.fromNumber(slot);
+                    assertEquals(providerFree(provider, day, timeslot, appointments),
+                            provider.isAvailableAt(day, timeslot, occupancy));
+                }
+            }
+        }
+        occupancy.clear();
+        assertEquals(0, occupancy.bookedSlots(providers[0], days[0]));
+    }
+
+    /**
+     * Verifies the mask bits for a provider's booked timeslots, and that an equal provider
+     * object shares them.
+     */
+    @Test
+    public void testBookedSlots() {
+        Profile profile = new Profile("Ann", "Lee", Date.of(1970, 1, 1));
+        Provider doctor = new Doctor(profile, Location.BRIDGEWATER, Specialty.FAMILY, "01");
+        Provider same = new Doctor(profile, Location.BRIDGEWATER, Specialty.FAMILY, "01");
+        Date day = Date.of(2026, 11, 2);
+        OccupancyIndex occupancy = new OccupancyIndex();
+        Person patient = new Person(new Profile("Pat", "Doe", Date.of(1990, 1, 1)));
+        occupancy.add(new Appointment(day, Timeslot.fromNumber(1), patient, doctor));
+        occupancy.add(new Appointment(day, Timeslot.fromNumber(12), patient, doctor));
+        assertEquals(1 | 1 << 11, occupancy.bookedSlots(same, day));
+        assertFalse(occupancy.isFree(same, day, Timeslot.fromNumber(12)));
+        assertTrue(occupancy.isFree(doctor, Date.of(2026, 11, 3), Timeslot.fromNumber(12)));
+    }
+
+    /**
+     * Books and cancels random imaging and office appointments, then compares every room, day
+     * and timeslot with a scan of the list.
+     */
+    @Test
+    public void testRoomsMatchListScan() {
+        Location[] locations = {Location.BRIDGEWATER, Location.EDISON, Location.CLARK};
+        Radiology[] rooms = Radiology.values();
+        Date[] days = {Date.of(2026, 11, 2), Date.of(2026, 11, 3)};
+        List<Appointment> appointments = new List<>();
+        OccupancyIndex occupancy = new OccupancyIndex();
+        for (int step = 0; step < 2_000; step++) {
+            if (appointments.isEmpty() || random.nextInt(3) > 0) {
+                Location location = locations[random.nextInt(locations.length)];
+                Radiology room = rooms[random.nextInt(rooms.length)];
+                Date day = days[random.nextInt(days.length)];
+                Timeslot timeslot = Timeslot.fromNumber(1 + random.nextInt(Timeslot.COUNT));
+                Provider provider = new Technician(new Profile("T" + step, "Q", Date.of(1980, 1, 1)), location, 100);
+                Person patient = new Person(new Profile("P" + step, "Q", Date.of(1990, 1, 1)));
+                Appointment appointment;
+                if (random.nextBoolean() && location.roomAvailable(day, timeslot, room, occupancy)) {
+                    appointment = new Imaging(day, timeslot, patient, provider, room);
+                } else {
+                    appointment = new Appointment(day, timeslot, patient, provider);
+                }
+                appointments.add(appointment);
+                occupancy.add(appointment);
+            } else {
+                Appointment appointment = appointments.get(random.nextInt(appointments.size()));
+                appointments.remove(appointment);
+                occupancy.remove(appointment);
+            }
+        }
+        for (Location location : Location.values()) {
+            for (Radiology room : rooms) {
+                for (Date day : days) {
+                    for (int slot = 1; slot <= Timeslot.COUNT; slot++) {
+                        Timeslot timeslot = Timeslot.fromNumber(slot);
+                        assertEquals(roomFree(location, day, timeslot, room, appointments),
+                                location.roomAvailable(day, timeslot, room, occupancy));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package p2;
+
+import util.BusinessCalendar;
+import util.Date;
+import util.List;
+
+/**
+ * Finds the earliest free office appointments for a specialty, optionally at one location, so
+ * the front desk does not have to try slot after slot with booking commands. Days come from the
+ * BusinessCalendar, so weekends, closures and days outside the booking window are skipped. For
+ * each day the free timeslots of every matching doctor are one complemented occupancy mask; the
+ * union of those masks is walked lowest bit first, so each timeslot costs a trailing-zero scan
+ * rather than a booking attempt.
+ */
+public class OpeningSearch {
+    // Mask with a bit set for every timeslot of the day
+    private static final int ALL_SLOTS = (1 << Timeslot.COUNT) - 1;
+
+    private final BusinessCalendar calendar;
+    private final OccupancyIndex occupancy;
+
+    /**
+     * A free timeslot with one doctor.
+     */
+    public static class Opening {
+        private final Date date;
+        private final Timeslot timeslot;
+        private final Doctor doctor;
+
+        /**
+         * Creates an opening.
+         *
+         * @param date     the day of the opening
+         * @param timeslot the free timeslot
+         * @param doctor   the doctor who is free
+         */
+        public Opening(Date date, Timeslot timeslot, Doctor doctor) {
+            this.date = date;
+            this.timeslot = timeslot;
+            this.doctor = doctor;
+        }
+
+        /**
+         * @return the day of the opening
+         */
+        public Date getDate() {
+            return date;
+        }
+
+        /**
+         * @return the free timeslot
+         */
+        public Timeslot getTimeslot() {
+            return timeslot;
+        }
+
+        /**
+         * @return the doctor who is free
+         */
+        public Doctor getDoctor() {
+            return doctor;
+        }
+
+        /**
+         * Returns the opening as the date, the timeslot and the doctor.
+         *
+         * @return a string such as "11/2/2026 09:00 AM [doctor]"
+         */
+        @Override
+        public String toString() {
+            return date + " " + timeslot + " " + doctor;
+        }
+    }
+
+    /**
+     * Creates a search over the given calendar and bookings.
+     *
+     * @param calendar  the bookable days
+     * @param occupancy the booked timeslots of every provider
+     */
+    public OpeningSearch(BusinessCalendar calendar, OccupancyIndex occupancy) {
+        this.calendar = calendar;
+        this.occupancy = occupancy;
+    }
+
+    /**
+     * Finds the earliest openings, ordered by date, then timeslot, then the order of the providers.
+     *
+     * @param providers the providers to search, in the order ties are listed
+     * @param specialty the specialty the doctor must have
+     * @param location  the location the doctor must work at, or null for any location
+     * @param count     the largest number of openings to return
+     * @return at most count openings, fewer if the booking window runs out
+     */
+    public List<Opening> earliest(Iterable<Provider> providers, Specialty specialty, Location location, int count) {
+        List<Doctor> doctors = new List<>();
+        for (Provider provider : providers) {
+            if (provider instanceof Doctor doctor && doctor.getSpecialty() == specialty
+                    && (location == null || doctor.getLocation() == location)) {
+                doctors.add(doctor);
+            }
+        }
+        List<Opening> openings = new List<>();
+        if (doctors.isEmpty()) {
+            return openings;
+        }
+        int[] free = new int[doctors.size()];
+        for (Date day = calendar.nextOpenDay(Date.today()); day != null && openings.size() < count;
+             day = calendar.nextOpenDay(Date.ofEpochDay(day.toEpochDay() + 1))) {
+            int anyFree = 0;
+            for (int i = 0; i < free.length; i++) {
+                free[i] = ~occupancy.bookedSlots(doctors.get(i), day) & ALL_SLOTS;
+                anyFree |= free[i];
+            }
+            for (; anyFree != 0 && openings.size() < count; anyFree &= anyFree - 1) {
+                int bit = anyFree & -anyFree;
+                Timeslot timeslot = Timeslot.fromNumber(Integer.numberOfTrailingZeros(bit) + 1);
+                for (int i = 0; i < free.length && openings.size() < count; i++) {
+                    if ((free[i] & bit) != 0) {
+                        openings.add(new Opening(day, timeslot, doctors.get(i)));
+                    }
+                }
+            }
+        }
+        return openings;
+    }
+}
@@ -0,0 +1,97 @@
+package p2;
+
+import org.junit.After;
+import org.junit.Test;
+import util.BusinessCalendar;
+import util.Date;
+import util.List;
+import util.TestClock;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the earliest openings match trying every day, timeslot and doctor in order.
+ */
+public class OpeningSearchTest {
+    private final Random random = new Random(RandomFixtures.SEED);
+
+    /**
+     * Restores the system clock that the brute force comparison fixes.
+     */
+    @After
+    public void restoreClock() {
+        TestClock.reset();
+    }
+
+    /**
+     * Lists openings by trying each bookable day, each timeslot and each doctor in turn.
+     */
+    private static List<OpeningSearch.Opening> bruteForce(List<Provider> providers, Specialty specialty, Location location,
+                                                          int count, OccupancyIndex occupancy, BusinessCalendar calendar) {
+        List<OpeningSearch.Opening> openings = new List<>();
+        Date today = Date.today();
+        for (int day = today.toEpochDay(); day < today.toEpochDay() + 200; day++) {
+            Date date = Date.ofEpochDay(day);
+            if (date.isPastDate() || !date.isWeekday() || !date.isWithinSixMonths() || calendar.isClosed(date)) {
+                continue;
+            }
+            for (int slot = 1; slot <= Timeslot.COUNT; slot++) {
+                for (Provider provider : providers) {
+                    if (provider instanceof Doctor doctor && doctor.getSpecialty() == specialty
+                            && (location == null || doctor.getLocation() == location)
+                            && doctor.isAvailableAt(date, Timeslot.fromNumber(slot), occupancy)) {
+                        if (openings.size() == count) {
+                            return openings;
+                        }
+                        openings.add(new OpeningSearch.Opening(date, Timeslot.fromNumber(slot), doctor));
+                    }
+                }
+            }
+        }
+        return openings;
+    }
+
+    /**
+     * Fills the first weeks with random bookings and compares searches with and without a
+     * location against the brute force search.
+     */
+    @Test
+    public void testMatchesBruteForce() {
+        TestClock.setToday(2026, 10, 16);
+        List<Provider> providers = new List<>();
+        Location[] locations = {Location.EDISON, Location.CLARK};
+        for (int i = 0; i < 6; i++) {
+            providers.add(new Doctor(new Profile("Doc" + i, "Q", Date.of(1970, 1, 1 + i)), locations[i % 2],
+                    i < 4 ? Specialty.FAMILY : Specialty.ALLERGIST, "0" + i));
+        }
+        OccupancyIndex occupancy = new OccupancyIndex();
+        BusinessCalendar calendar = new BusinessCalendar();
+        calendar.close(Date.of(2026, 10, 19));
+        for (int i = 0; i < 300; i++) {
+            Provider doctor = providers.get(random.nextInt(providers.size()));
+            Date day = Date.ofEpochDay(Date.today().toEpochDay() + random.nextInt(14));
+            Timeslot timeslot = Timeslot.fromNumber(1 + random.nextInt(Timeslot.COUNT));
+            if (doctor.isAvailableAt(day, timeslot, occupancy)) {
+                occupancy.add(new Appointment(day, timeslot,
+                        new Person(new Profile("P" + i, "Q", Date.of(1990, 1, 1))), doctor));
+            }
+        }
+        OpeningSearch search = new OpeningSearch(calendar, occupancy);
+        for (Location location : new Location[]{null, Location.EDISON, Location.PRINCETON}) {
+            for (int count : new int[]{1, 7, 40}) {
+                List<OpeningSearch.Opening> expected = bruteForce(providers, Specialty.FAMILY, location, count, occupancy,
+                        calendar);
+                List<OpeningSearch.Opening> actual = search.earliest(providers, Specialty.FAMILY, location, count);
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i).getDate(), actual.get(i).getDate());
+                    assertSame(expected.get(i).getTimeslot(), actual.get(i).getTimeslot());
+                    assertSame(expected.get(i).getDoctor(), actual.get(i).getDoctor());
+                }
+            }
+        }
+        assertSame(Date.of(2026, 10, 16), search.earliest(providers, Specialty.ALLERGIST, null, 1).get(0).getDate());
+    }
+}
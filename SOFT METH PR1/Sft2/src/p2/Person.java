@@ -63,6 +63,16 @@ public class Person implements Comparable<Person> {
         }
     }
 
+    /**
+     * Returns a hash code consistent with equals, which only looks at the profile.
+     *
+     * @return the hash code of this person's profile
+     */
+    @Override
+    public int hashCode() {
+        return profile.hashCode();
+    }
+
     /**
      * Returns a string representation of the Person, including their first name,
      * last name, and date of birth.
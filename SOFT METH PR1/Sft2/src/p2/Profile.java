@@ -20,9 +20,12 @@ import util.Date;
 public class Profile implements Comparable<Profile> {
 
     // Instance variables for first name, last name, and date of birth
-    private String fname;
-    private String lname;
-    private Date dob;
+    private final String fname;
+    private final String lname;
+    private final Date dob;
+
+    // Cached hash code; 0 until first computed, profiles never change after construction
+    private int hash;
 
     /**
      * Constructor to create a Profile instance with the given first name, last name, and date of birth.
@@ -117,5 +120,35 @@ public class Profile implements Comparable<Profile> {
         Profile temp = (Profile) obj;
         return this.compareTo(temp) == 0;
     }
+
+    /**
+     * Returns a hash code consistent with equals. Names are compared ignoring case,
+     * so each character is folded the same way compareToIgnoreCase folds it before hashing.
+     *
+     * @return the hash code of this profile
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * (31 * foldedHash(lname) + foldedHash(fname)) + dob.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Hashes a name so that names equal under compareToIgnoreCase hash the same.
+     *
+     * @param name the name to hash
+     * @return the case-insensitive hash of the name
+     */
+    private static int foldedHash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return h;
+    }
 }
 
@@ -2,7 +2,6 @@
 package p2;
 
 import util.Date;
-import util.List;
 
 /**
  *The Provider enum represents healthcare providers in the scheduling system, such as
@@ -38,22 +37,16 @@ public abstract class Provider extends Person {
     }
 
     /**
-     * Checks if the provider is available at a specified date and timeslot.
+     * Checks if the provider is available at a specified date and timeslot, using the booked
+     * timeslot masks.
      *
-     * @param apptDate the date of the appointment to check
-     * @param timeslot the timeslot of the appointment to check
-     * @param appList  the list of appointments to compare against
+     * @param apptDate  the date of the appointment to check
+     * @param timeslot  the timeslot of the appointment to check
+     * @param occupancy the booked timeslots of every provider
      * @return true if the provider is available, otherwise false
      */
-    public boolean isAvailableAt(Date apptDate, Timeslot timeslot, List<Appointment> appList) {
-        for (Appointment appt : appList) {
-            if (appt.getProvider().equals(this)
-                    && appt.getTimeslot().equals(timeslot)
-                    && appt.getDate().equals(apptDate)) {
-                return false; // Provider is not available if they already have an appointment at this timeslot
-            }
-        }
-        return true; // Provider is available
+    public boolean isAvailableAt(Date apptDate, Timeslot timeslot, OccupancyIndex occupancy) {
+        return occupancy.isFree(this, apptDate, timeslot);
     }
 
     /**
@@ -0,0 +1,78 @@
+package p2;
+
+import util.Date;
+
+import java.util.Random;
+
+/**
+ * Random domain objects for the tests. Values are drawn from small pools, with names that
+ * differ only in case, so equal objects and ties in every ordering come up often. Every
+ * instance starts from the same seed, so a failing run repeats exactly.
+ */
+public class RandomFixtures {
+    /**
+     * Seed shared by every randomized test.
+     */
+    public static final long SEED = 20241018L;
+
+    private static final String[] FIRST_NAMES = {"Ann", "ANN", "ann", "Ben", "bEN", "Zoe"};
+    private static final String[] LAST_NAMES = {"Lee", "LEE", "lee", "Patel", "PATEL", "Ng"};
+    private static final Location[] LOCATIONS = Location.values();
+
+    private final Random random = new Random(SEED);
+
+    /**
+     * @return The generator behind the fixtures, for any other random choices a test makes.
+     */
+    public Random random() {
+        return random;
+    }
+
+    /**
+     * @return One of 18 dates of birth in 1990 to 1992.
+     */
+    public Date randomDate() {
+        return new Date(1990 + random.nextInt(3), 1 + random.nextInt(2), 1 + random.nextInt(3));
+    }
+
+    /**
+     * @return One of the first three timeslots.
+     */
+    public Timeslot randomTimeslot() {
+        return Timeslot.fromNumber(1 + random.nextInt(3));
+    }
+
+    /**
+     * @return A profile from the name and date pools.
+     */
+    public Profile randomProfile() {
+        return new Profile(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)], randomDate());
+    }
+
+    /**
+     * @return A family doctor or a technician at any location.
+     */
+    public Provider randomProvider() {
+        Location location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+        if (random.nextBoolean()) {
+            return new Doctor(randomProfile(), location, Specialty.FAMILY, "01");
+        }
+        return new Technician(randomProfile(), location, 100);
+    }
+
+    /**
+     * @return An office or imaging appointment on 11/2/2026 to 11/4/2026 in one of the first
+     * three timeslots.
+     */
+    public Appointment randomAppointment() {
+        Date date = new Date(2026, 11, 2 + random.nextInt(3));
+        Timeslot timeslot = randomTimeslot();
+        Person patient = new Person(randomProfile());
+        Provider provider = randomProvider();
+        if (random.nextBoolean()) {
+            return new Imaging(date, timeslot, patient, provider, random.nextBoolean() ? Radiology.XRAY : Radiology.MRI);
+        }
+        return new Appointment(date, timeslot, patient, provider);
+    }
+}
@@ -0,0 +1,70 @@
+package p2;
+
+import util.CircularList;
+import util.Date;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Picks the technician for an imaging appointment: the first one in rotation order, starting
+ * at the head, who is free at the timeslot and whose location has the requested room free.
+ * Once a technician is picked the rotation moves on to the one after them, so the next booking
+ * starts there.
+ *
+ * Availability comes from the OccupancyIndex masks. The room is checked once per location up
+ * front through Location.roomAvailable, giving a bitmask of locations whose room is taken, so
+ * the walk over the rotation does one mask lookup and two bit tests per technician instead of
+ * scanning the appointments.
+ */
+public class TechnicianDispatcher {
+    private final CircularList<Technician> rotation;
+    private final OccupancyIndex occupancy;
+
+    /**
+     * Creates a dispatcher over a technician rotation.
+     *
+     * @param rotation  the technicians in rotation order; its head moves on every dispatch
+     * @param occupancy the booked timeslots of every provider and room
+     */
+    public TechnicianDispatcher(CircularList<Technician> rotation, OccupancyIndex occupancy) {
+        this.rotation = rotation;
+        this.occupancy = occupancy;
+    }
+
+    /**
+     * Finds the next technician in the rotation who can take an imaging appointment, and moves
+     * the head of the rotation past them.
+     *
+     * @param date     the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param room     the radiology room the appointment needs
+     * @return the technician, or null if no technician and room are free; the rotation is then unchanged
+     * @throws NoSuchElementException if the rotation is empty, as iterating it would
+     */
+    public Technician dispatch(Date date, Timeslot timeslot, Radiology room) {
+        int size = rotation.size();
+        if (size == 0) {
+            throw new NoSuchElementException("Circular list is empty.");
+        }
+        int bit = OccupancyIndex.bit(timeslot);
+        int busyRooms = 0; // Bit i is set when the room at location ordinal i is taken
+        for (Location location : Location.values()) {
+            if (!location.roomAvailable(date, timeslot, room, occupancy)) {
+                busyRooms |= 1 << location.ordinal();
+            }
+        }
+        int index = rotation.indexOf(rotation.getHead());
+        for (int counter = 0; counter < size; counter++) {
+            Technician tech = rotation.get(index);
+            if ((busyRooms & 1 << tech.getLocation().ordinal()) == 0
+                    && (occupancy.bookedSlots(tech, date) & bit) == 0) {
+                rotation.setHead(rotation.circleGet(counter + 1));
+                return tech;
+            }
+            if (++index == size) {
+                index = 0;
+            }
+        }
+        return null;
+    }
+}
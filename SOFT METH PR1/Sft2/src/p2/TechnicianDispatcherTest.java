@@ -0,0 +1,76 @@
+package p2;
+
+import org.junit.Test;
+import util.CircularList;
+import util.Date;
+import util.List;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the dispatcher picks the same technicians, and leaves the rotation in the same
+ * place, as the original loop over the rotation.
+ */
+public class TechnicianDispatcherTest {
+    private final Random random = new Random(RandomFixtures.SEED);
+
+    /**
+     * Copy of the original selection loop, kept as the reference.
+     */
+    private static Technician originalDispatch(CircularList<Technician> rotation, Date date, Timeslot timeslot,
+                                               Radiology room, List<Appointment> appointments) {
+        int counter = 0;
+        for (Technician tech : rotation) {
+            if (!OccupancyIndexTest.providerFree(tech, date, timeslot, appointments)) {
+                counter++;
+                continue;
+            }
+            if (OccupancyIndexTest.roomFree(tech.getLocation(), date, timeslot, room, appointments)) {
+                rotation.setHead(rotation.circleGet(++counter));
+                return tech;
+            }
+            counter++;
+        }
+        return null;
+    }
+
+    /**
+     * Books many random imaging appointments both ways and compares each pick and each head.
+     */
+    @Test
+    public void testMatchesOriginalLoop() {
+        Location[] locations = Location.values();
+        CircularList<Technician> rotation = new CircularList<>();
+        CircularList<Technician> reference = new CircularList<>();
+        for (int i = 0; i < 8; i++) {
+            Technician tech = new Technician(new Profile("Tech" + i, "Q", Date.of(1980, 1, 1 + i)),
+                    locations[random.nextInt(3)], 100);
+            rotation.add(tech);
+            reference.add(tech);
+        }
+        rotation.setHead(rotation.get(5));
+        reference.setHead(reference.get(5));
+        OccupancyIndex occupancy = new OccupancyIndex();
+        TechnicianDispatcher dispatcher = new TechnicianDispatcher(rotation, occupancy);
+        List<Appointment> appointments = new List<>();
+        Date[] days = {Date.of(2026, 11, 2), Date.of(2026, 11, 3)};
+        Radiology[] rooms = Radiology.values();
+        for (int step = 0; step < 500; step++) {
+            Date day = days[random.nextInt(days.length)];
+            Timeslot timeslot = Timeslot.fromNumber(1 + random.nextInt(4));
+            Radiology room = rooms[random.nextInt(rooms.length)];
+            Technician expected = originalDispatch(reference, day, timeslot, room, appointments);
+            Technician actual = dispatcher.dispatch(day, timeslot, room);
+            assertSame(expected, actual);
+            assertSame(reference.getHead(), rotation.getHead());
+            if (actual != null) {
+                Appointment appointment = new Imaging(day, timeslot,
+                        new Person(new Profile("P" + step, "Q", Date.of(1990, 1, 1))), actual, room);
+                appointments.add(appointment);
+                occupancy.add(appointment);
+            }
+        }
+    }
+}
@@ -7,28 +7,63 @@
 package p2;
 /**
  * The Timeslot class represents a specific time during the day for appointments.
- * Each timeslot is defined by an hour and a minute.
- * The class includes methods for comparing, representing, and converting timeslots.
+ * Each timeslot is defined by an hour and a minute, and by its slot number, 1 to 12 in time order.
+ * There are exactly twelve Timeslot objects, one per bookable slot, shared by every appointment;
+ * they are obtained with fromNumber. Equal timeslots are therefore the same object, and the slot
+ * number can index arrays and bitmasks.
  */
 public class Timeslot implements Comparable<Timeslot> {
 
+    // Number of bookable timeslots in a day
+    public static final int COUNT = 12;
+
+    // The shared timeslots, in slot order
+    private static final Timeslot[] SLOTS = {
+            new Timeslot(1, 9, 0),   // 9:00 AM
+            new Timeslot(2, 9, 30),  // 9:30 AM
+            new Timeslot(3, 10, 0),  // 10:00 AM
+            new Timeslot(4, 10, 30), // 10:30 AM
+            new Timeslot(5, 11, 0),  // 11:00 AM
+            new Timeslot(6, 11, 30), // 11:30 AM
+            new Timeslot(7, 14, 0),  // 2:00 PM
+            new Timeslot(8, 14, 30), // 2:30 PM
+            new Timeslot(9, 15, 0),  // 3:00 PM
+            new Timeslot(10, 15, 30), // 3:30 PM
+            new Timeslot(11, 16, 0), // 4:00 PM
+            new Timeslot(12, 16, 30) // 4:30 PM
+    };
+
+    // Slot number, 1 to 12 in time order
+    private final int slot;
+
     // Hour of the timeslot (24-hour format)
-    private int hour;
+    private final int hour;
 
     // Minute of the timeslot
-    private int minute;
+    private final int minute;
 
     /**
-     * Constructor to initialize a timeslot with a specific hour and minute.
+     * Constructor to initialize one of the shared timeslots.
      *
+     * @param slot   The slot number, 1 to 12.
      * @param hour   The hour of the timeslot (in 24-hour format).
      * @param minute The minute of the timeslot.
      */
-    public Timeslot(int hour, int minute) {
+    private Timeslot(int slot, int hour, int minute) {
+        this.slot = slot;
         this.hour = hour;
         this.minute = minute;
     }
 
+    /**
+     * Gets the slot number of the timeslot, which orders timeslots the same way as compareTo.
+     *
+     * @return The slot number, 1 to 12.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
     /**
      * Gets the hour of the timeslot.
      *
@@ -49,40 +84,36 @@ public class Timeslot implements Comparable<Timeslot> {
 
     /**
      * Compares this timeslot with another timeslot to determine their order.
-     * Comparison is done first by hour and then by minute.
+     * Slot numbers follow the time of day, so comparing them orders by hour and then by minute.
      *
      * @param other The other timeslot to compare against.
      * @return 1 if this timeslot is after the other, -1 if before, and 0 if they are equal.
      */
     @Override
     public int compareTo(Timeslot other) {
-        if (this.hour > other.hour) {
-            return 1; // Compare by hour first
-        }
-        if (this.hour < other.hour) {
-            return -1;
-        }
-        if (this.minute > other.minute) {
-            return 1;
-        }
-        if (this.minute < other.minute) {
-            return -1;
-        }
-        return 0; // Compare by minute if the hours are equal
+        return Integer.compare(slot, other.slot);
     }
 
     /**
-     * Checks if two timeslots are equal by comparing both the hour and the minute.
+     * Checks if two timeslots are equal. Each slot has a single shared instance, so equal
+     * timeslots are the same object.
      *
      * @param obj The object to compare against.
-     * @return True if the timeslots have the same hour and minute, otherwise false.
+     * @return True if obj is the same timeslot, otherwise false.
      */
     @Override
     public boolean equals(Object obj) {
-        if (this == obj) return true; // Check if both objects are the same
-        if (obj == null || getClass() != obj.getClass()) return false; // Null or class type check
-        Timeslot timeslot = (Timeslot) obj; // Cast the object to Timeslot
-        return hour == timeslot.hour && minute == timeslot.minute; // Compare hour and minute
+        return this == obj;
+    }
+
+    /**
+     * Returns a hash code consistent with equals, based on the minute of the day.
+     *
+     * @return The number of minutes from midnight to this timeslot.
+     */
+    @Override
+    public int hashCode() {
+        return hour * 60 + minute;
     }
 
     /**
@@ -98,7 +129,7 @@ public class Timeslot implements Comparable<Timeslot> {
     }
 
     /**
-     * Creates a timeslot from a given number representing a specific timeslot in the day.
+     * Gets the shared timeslot for a given number representing a specific timeslot in the day.
      * Useful for quick conversions from an index or enumeration to an actual timeslot.
      *
      * @param number The number representing the timeslot (e.g., 1 for 9:00 AM).
@@ -106,33 +137,9 @@ public class Timeslot implements Comparable<Timeslot> {
      * @throws IllegalArgumentException If the number does not correspond to a valid timeslot.
      */
     public static Timeslot fromNumber(int number) {
-        switch (number) {
-            case 1:
-                return new Timeslot(9, 0);  // 9:00 AM
-            case 2:
-                return new Timeslot(9, 30); // 9:30 AM
-            case 3:
-                return new Timeslot(10, 0); // 10:00 AM
-            case 4:
-                return new Timeslot(10, 30); // 10:30 AM
-            case 5:
-                return new Timeslot(11, 0); // 11:00 AM
-            case 6:
-                return new Timeslot(11, 30); // 11:30 AM
-            case 7:
-                return new Timeslot(14, 0); // 2:00 PM
-            case 8:
-                return new Timeslot(14, 30); // 2:30 PM
-            case 9:
-                return new Timeslot(15, 0); // 3:00 PM
-            case 10:
-                return new Timeslot(15, 30); // 3:30 PM
-            case 11:
-                return new Timeslot(16, 0); // 4:00 PM
-            case 12:
-                return new Timeslot(16, 30); // 4:30 PM
-            default:
-                throw new IllegalArgumentException("Invalid timeslot number: " + number); // Handle invalid input
+        if (number < 1 || number > COUNT) {
+            throw new IllegalArgumentException("Invalid timeslot number: " + number); // Handle invalid input
         }
+        return SLOTS[number - 1];
     }
 }
@@ -0,0 +1,46 @@
+package p2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the twelve shared timeslots are numbered and ordered by time of day.
+ */
+public class TimeslotTest {
+    /**
+     * Verifies that fromNumber always returns the same object for a slot.
+     */
+    @Test
+    public void testFromNumberIsShared() {
+        for (int number = 1; number <= Timeslot.COUNT; number++) {
+            assertSame(Timeslot.fromNumber(number), Timeslot.fromNumber(number));
+            assertEquals(number, Timeslot.fromNumber(number).getSlot());
+        }
+    }
+
+    /**
+     * Verifies that slot order matches the order of the hours and minutes.
+     */
+    @Test
+    public void testSlotOrderFollowsTime() {
+        for (int a = 1; a <= Timeslot.COUNT; a++) {
+            for (int b = 1; b <= Timeslot.COUNT; b++) {
+                Timeslot first = Timeslot.fromNumber(a);
+                Timeslot second = Timeslot.fromNumber(b);
+                int minutes = Integer.compare(first.getHour() * 60 + first.getMinute(),
+                        second.getHour() * 60 + second.getMinute());
+                assertEquals(minutes, first.compareTo(second));
+                assertEquals(a == b, first.equals(second));
+            }
+        }
+    }
+
+    /**
+     * Verifies that numbers outside 1 to 12 are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidNumber() {
+        Timeslot.fromNumber(13);
+    }
+}
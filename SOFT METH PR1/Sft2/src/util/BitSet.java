@@ -0,0 +1,166 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * A compact, growable set of non-negative int indexes stored one bit per index in a long array.
+ * Bit tests are a shift and a mask, and searches skip 64 indexes at a time, which makes it a
+ * good fit for day or slot occupancy where the indexes are small, dense integers.
+ */
+public class BitSet {
+    private static final int ADDRESS_BITS = 6; // 64 bits per word.
+
+    private long[] words;
+
+    /**
+     * Creates an empty bit set with room for 64 indexes.
+     */
+    public BitSet() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty bit set with room for the given number of indexes.
+     *
+     * @param nbits Number of indexes the set can hold before growing.
+     */
+    public BitSet(int nbits) {
+        if (nbits < 0) {
+            throw new IllegalArgumentException("Negative size: " + nbits);
+        }
+        words = new long[wordIndex(nbits - 1) + 1];
+    }
+
+    /**
+     * @param index Index to test.
+     * @return True if the index is in the set.
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        int word = wordIndex(index);
+        return word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Adds an index to the set, growing the set if needed.
+     *
+     * @param index Index to add.
+     */
+    public void set(int index) {
+        checkIndex(index);
+        int word = wordIndex(index);
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(words.length << 1, word + 1));
+        }
+        words[word] |= 1L << index;
+    }
+
+    /**
+     * Removes an index from the set.
+     *
+     * @param index Index to remove.
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        int word = wordIndex(index);
+        if (word < words.length) {
+            words[word] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Removes every index from the set.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * @param from Index to start searching at.
+     * @return The first index in the set at or after from, or -1 if there is none.
+     */
+    public int nextSetBit(int from) {
+        checkIndex(from);
+        int word = wordIndex(from);
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << ADDRESS_BITS) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+    /**
+     * @param from Index to start searching at.
+     * @return The first index not in the set at or after from.
+     */
+    public int nextClearBit(int from) {
+        checkIndex(from);
+        int word = wordIndex(from);
+        if (word >= words.length) {
+            return from;
+        }
+        long bits = ~words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << ADDRESS_BITS) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == words.length) {
+                return word << ADDRESS_BITS;
+            }
+            bits = ~words[word];
+        }
+    }
+
+    /**
+     * @return Number of indexes in the set.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @return True if the set holds no indexes.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int wordIndex(int index) {
+        return index >> ADDRESS_BITS;
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative index: " + index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(i);
+        }
+        return sb.append('}').toString();
+    }
+}
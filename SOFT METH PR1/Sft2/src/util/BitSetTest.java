@@ -0,0 +1,46 @@
+package util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the BitSet set, clear and search methods, including across word boundaries.
+ */
+public class BitSetTest {
+    /**
+     * Verifies that bits can be set and cleared, and that the set grows when needed.
+     */
+    @Test
+    public void testSetAndClear() {
+        BitSet bits = new BitSet(8);
+        bits.set(3);
+        bits.set(200);
+        assertTrue(bits.get(3));
+        assertTrue(bits.get(200));
+        assertFalse(bits.get(4));
+        assertFalse(bits.get(100000));
+        assertEquals(2, bits.cardinality());
+        bits.clear(3);
+        assertFalse(bits.get(3));
+        bits.clear();
+        assertTrue(bits.isEmpty());
+    }
+
+    /**
+     * Verifies nextSetBit and nextClearBit, including searches that cross into the next word.
+     */
+    @Test
+    public void testSearch() {
+        BitSet bits = new BitSet(128);
+        for (int i = 60; i < 70; i++) {
+            bits.set(i);
+        }
+        assertEquals(60, bits.nextSetBit(0));
+        assertEquals(64, bits.nextSetBit(64));
+        assertEquals(-1, bits.nextSetBit(70));
+        assertEquals(70, bits.nextClearBit(60));
+        assertEquals(0, bits.nextClearBit(0));
+        assertEquals(500, bits.nextClearBit(500));
+    }
+}
@@ -0,0 +1,143 @@
+package util;
+
+/**
+ * Knows which days can be booked: weekdays from today up to six months from today, minus any
+ * days the clinic is closed. The open days of the current window are worked out once into a
+ * BitSet indexed from today, so checking a date is one bit test and finding the next open day
+ * is one nextSetBit. The window is rebuilt when the day changes or a closure is added or removed.
+ * Today comes from the same clock as Date, so Date.setClock moves both.
+ */
+public class BusinessCalendar {
+    private final IntList closures = new IntList(); // Epoch days the clinic is closed, each once
+    private volatile Window window;
+
+    /**
+     * The open days from the first day of the window up to, but not including, the end day.
+     */
+    private static class Window {
+        private final int first;
+        private final int end;
+        private final BitSet open;
+
+        private Window(int first, int end, BitSet open) {
+            this.first = first;
+            this.end = end;
+            this.open = open;
+        }
+    }
+
+    /**
+     * Marks a day as closed, such as a holiday, so it cannot be booked.
+     *
+     * @param day Day the clinic is closed.
+     */
+    public synchronized void close(Date day) {
+        int epochDay = day.toEpochDay();
+        if (!closures.contains(epochDay)) {
+            closures.add(epochDay);
+            window = null;
+        }
+    }
+
+    /**
+     * Removes a closure added with close.
+     *
+     * @param day Day the clinic is open again.
+     */
+    public synchronized void reopen(Date day) {
+        int index = closures.indexOf(day.toEpochDay());
+        if (index != -1) {
+            closures.removeAt(index);
+            window = null;
+        }
+    }
+
+    /**
+     * @param date Date to check.
+     * @return True if the clinic is closed on the date.
+     */
+    public synchronized boolean isClosed(Date date) {
+        return closures.contains(date.toEpochDay());
+    }
+
+    /**
+     * Checks a date against every booking rule at once.
+     *
+     * @param date Date to check.
+     * @return True if the date is valid, a weekday, within the booking window and not a closure.
+     */
+    public boolean isBookable(Date date) {
+        if (!date.isValid()) {
+            return false;
+        }
+        Window current = current();
+        int day = date.toEpochDay();
+        return day >= current.first && day < current.end && current.open.get(day - current.first);
+    }
+
+    /**
+     * Finds the first bookable day on or after a date.
+     *
+     * @param from Date to start from; dates before today start from today.
+     * @return The next bookable day, or null if there is none left in the window.
+     */
+    public Date nextOpenDay(Date from) {
+        Window current = current();
+        int index = current.open.nextSetBit(Math.max(0, from.toEpochDay() - current.first));
+        if (index < 0 || current.first + index >= current.end) {
+            return null;
+        }
+        return Date.ofEpochDay(current.first + index);
+    }
+
+    /**
+     * @return Today as an epoch day, the first day of the window.
+     */
+    public int firstDay() {
+        return current().first;
+    }
+
+    /**
+     * @return The epoch day just past the window.
+     */
+    public int endDay() {
+        return current().end;
+    }
+
+    /**
+     * Gets the window for today, rebuilding it if the day has changed or a closure was edited.
+     */
+    private Window current() {
+        DayClock clock = Date.clock();
+        int today = clock.today();
+        int end = clock.sixMonthsFromToday();
+        Window current = window;
+        if (current == null || current.first != today || current.end != end) {
+            current = build(today, end);
+        }
+        return current;
+    }
+
+    /**
+     * Works out the open days from today up to the end of the window and caches them: every
+     * weekday is set, then each closure inside the window is cleared. Runs under the same lock as
+     * close, so a closure never gets overwritten by a window built before it.
+     */
+    private synchronized Window build(int today, int end) {
+        BitSet open = new BitSet(end - today);
+        for (int day = today; day < end; day++) {
+            if (Date.ofEpochDay(day).isWeekday()) {
+                open.set(day - today);
+            }
+        }
+        for (int i = 0; i < closures.size(); i++) {
+            int day = closures.get(i);
+            if (day >= today && day < end) {
+                open.clear(day - today);
+            }
+        }
+        Window built = new Window(today, end, open);
+        window = built;
+        return built;
+    }
+}
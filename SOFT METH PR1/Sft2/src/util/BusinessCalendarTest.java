@@ -0,0 +1,91 @@
+package util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the bookable days of the window against the individual Date checks.
+ */
+public class BusinessCalendarTest {
+    /**
+     * Restores the system clock once each calendar test is done with its fixed today.
+     */
+    @After
+    public void restoreClock() {
+        TestClock.reset();
+    }
+
+    /**
+     * Verifies that every day from a year back to a year ahead is bookable exactly when it passes
+     * the Date checks, including invalid dates.
+     */
+    @Test
+    public void testBookableMatchesDateChecks() {
+        TestClock.setToday(2026, 10, 18);
+        BusinessCalendar calendar = new BusinessCalendar();
+        int today = (int) LocalDate.of(2026, 10, 18).toEpochDay();
+        for (int day = today - 365; day <= today + 365; day++) {
+            Date date = Date.ofEpochDay(day);
+            boolean expected = date.isValid() && !date.isPastDate() && date.isWeekday() && date.isWithinSixMonths();
+            assertEquals(date.toString(), expected, calendar.isBookable(date));
+        }
+        assertFalse(calendar.isBookable(new Date(2026, 11, 31)));
+        assertFalse(calendar.isBookable(new Date(2026, 2, 30)));
+    }
+
+    /**
+     * Verifies that closures are skipped and can be reopened.
+     */
+    @Test
+    public void testClosures() {
+        TestClock.setToday(2026, 10, 18);
+        BusinessCalendar calendar = new BusinessCalendar();
+        Date thanksgiving = Date.of(2026, 11, 26);
+        assertTrue(calendar.isBookable(thanksgiving));
+        calendar.close(thanksgiving);
+        calendar.close(Date.of(2026, 11, 27));
+        assertFalse(calendar.isBookable(thanksgiving));
+        assertTrue(calendar.isClosed(thanksgiving));
+        assertSame(Date.of(2026, 11, 30), calendar.nextOpenDay(thanksgiving));
+        calendar.reopen(thanksgiving);
+        assertTrue(calendar.isBookable(thanksgiving));
+        calendar.close(thanksgiving);
+        calendar.close(thanksgiving); // Closing twice still takes one reopen.
+        calendar.reopen(thanksgiving);
+        assertTrue(calendar.isBookable(thanksgiving));
+        calendar.reopen(thanksgiving);
+        assertFalse(calendar.isClosed(thanksgiving));
+        calendar.close(Date.of(2030, 1, 2)); // Outside the window, so nothing to clear.
+        assertTrue(calendar.isClosed(Date.of(2030, 1, 2)));
+    }
+
+    /**
+     * Verifies the next open day from a weekend, from the past and past the window.
+     */
+    @Test
+    public void testNextOpenDay() {
+        TestClock.setToday(2026, 10, 18); // A Sunday
+        BusinessCalendar calendar = new BusinessCalendar();
+        assertSame(Date.of(2026, 10, 19), calendar.nextOpenDay(Date.of(2026, 10, 17)));
+        assertSame(Date.of(2026, 10, 19), calendar.nextOpenDay(Date.of(2000, 1, 1)));
+        assertSame(Date.of(2027, 4, 16), calendar.nextOpenDay(Date.of(2027, 4, 16)));
+        assertNull(calendar.nextOpenDay(Date.of(2027, 4, 17)));
+    }
+
+    /**
+     * Verifies that the window moves when the day changes.
+     */
+    @Test
+    public void testWindowMovesWithToday() {
+        TestClock.setToday(2026, 10, 19);
+        BusinessCalendar calendar = new BusinessCalendar();
+        assertTrue(calendar.isBookable(Date.of(2026, 10, 19)));
+        TestClock.setToday(2026, 10, 20);
+        assertFalse(calendar.isBookable(Date.of(2026, 10, 19)));
+        assertTrue(calendar.isBookable(Date.of(2027, 4, 19)));
+    }
+}
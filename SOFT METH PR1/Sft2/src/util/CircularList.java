@@ -2,14 +2,17 @@ package util;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Represents a circular linked list.
- * This class extends the List class to provide additional functionalities specific to circular traversal.
+ * This class extends the IndexedList class to provide additional functionalities specific to circular traversal.
+ * Finding the head is a hash lookup, so moving the rotation does not scan the list.
  *
  * @param <E> Type of elements in the circular linked list.
  */
-public class CircularList<E> extends List<E> {
+public class CircularList<E> extends IndexedList<E> {
     private E head; // The head element of the circular linked list.
 
     /**
@@ -34,6 +37,15 @@ public class CircularList<E> extends List<E> {
         this.head = head;
     }
 
+    /**
+     * Gets the head of the linked list, where iteration starts.
+     *
+     * @return The head element, or null if none has been set.
+     */
+    public E getHead() {
+        return head;
+    }
+
     /**
      * An alternative method to {@link #get} which identifies the item positioned at a specified index `i`
      * starting from the current {@link #head}.
@@ -61,6 +73,20 @@ public class CircularList<E> extends List<E> {
         return new CircularIterator();
     }
 
+    /**
+     * Creates a spliterator that visits the elements in the same order as {@link #iterator()},
+     * starting from the {@link #head}, so streams see the rotation order.
+     *
+     * @return Spliterator representing a CircularList.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        if (size() == 0) {
+            return Spliterators.emptySpliterator();
+        }
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
     /**
      * Class defining an iterator to loop through the circular list.
      * The iterator starts from the head element and continues in a circular manner until all elements are covered.
@@ -10,24 +10,110 @@
  */
 package util;
 
-import java.util.Calendar;
+import java.time.Clock;
 
 public class Date implements Comparable<Date> {
     // Instance variables to represent the day, month, and year of the date.
-    private int date;
-    private int month;
-    private int year;
+    private final int date;
+    private final int month;
+    private final int year;
+    // The same day counted from 1/1/1970, so day arithmetic needs no Calendar.
+    private final int epochDay;
+    // The fields packed as yyyymmdd so comparing two dates is one int comparison, or UNPACKED.
+    private final int packed;
 
     // Constants used to check leap year conditions.
     public static final int QUADRENNIAL = 4;
     public static final int CENTENNIAL = 100;
     public static final int QUATERCENTENNIAl = 400;
 
+    // Constants used for epoch day arithmetic: days in a 400 year cycle, and from 3/1/0000 to 1/1/1970.
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_TO_EPOCH = 719468;
+
+    // Days in a week, and the weekday of 1/1/1970 counting Monday as 0 (it was a Thursday).
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int EPOCH_WEEKDAY = 3;
+    private static final int SATURDAY = 5;
+
+    // Packed value for dates whose month or day does not fit in two digits, or whose year is beyond
+    // MAX_PACKED_YEAR; these compare field by field.
+    public static final int UNPACKED = Integer.MIN_VALUE;
+    private static final int MAX_PACKED_YEAR = 200_000;
+
+    // Years covered by the pool of shared instances: common birth years and the booking window.
+    private static final int POOL_FIRST_YEAR = 1900;
+    private static final int POOL_LAST_YEAR = 2100;
+    private static final int POOL_MONTH_SLOTS = 31;
+    private static final int POOL_YEAR_SLOTS = 12 * POOL_MONTH_SLOTS;
+    // Filled as dates are first asked for; a racing thread may create a second copy, which is harmless.
+    private static final Date[] POOL = new Date[(POOL_LAST_YEAR - POOL_FIRST_YEAR + 1) * POOL_YEAR_SLOTS];
+
+    // Names of the MM/DD/YYYY fields, in the order they are parsed, for error messages.
+    private static final String[] FIELD_NAMES = {"month", "day", "year"};
+
+    // Source of today's date for the past, weekday and six-month checks.
+    private static volatile DayClock clock = new DayClock(Clock.systemDefaultZone());
+
     // Constructor method for creating a Date instance.
     public Date(int year, int month, int date) {
         this.date = date;
         this.month = month;
         this.year = year;
+        this.epochDay = epochDay(year, month, date);
+        this.packed = pack(year, month, date);
+    }
+
+    // Constructor for a date whose epoch day is already known.
+    private Date(int year, int month, int date, int epochDay) {
+        this.date = date;
+        this.month = month;
+        this.year = year;
+        this.epochDay = epochDay;
+        this.packed = pack(year, month, date);
+    }
+
+    // Static method to get the shared instance of a date, so equal dates are one object. Dates outside
+    // the pooled years, or with a month or day out of range, are created new each time.
+    public static Date of(int year, int month, int date) {
+        if (year < POOL_FIRST_YEAR || year > POOL_LAST_YEAR || month < 1 || month > 12 || date < 1 || date > 31) {
+            return new Date(year, month, date);
+        }
+        int slot = (year - POOL_FIRST_YEAR) * POOL_YEAR_SLOTS + (month - 1) * POOL_MONTH_SLOTS + date - 1;
+        Date pooled = POOL[slot];
+        if (pooled == null) {
+            pooled = new Date(year, month, date);
+            POOL[slot] = pooled;
+        }
+        return pooled;
+    }
+
+    // Packs the fields as yyyymmdd when that keeps their order, that is when month and day have two digits.
+    private static int pack(int year, int month, int date) {
+        if (month < 0 || month > 99 || date < 0 || date > 99 || year < -MAX_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            return UNPACKED;
+        }
+        return year * 10_000 + month * 100 + date;
+    }
+
+    // Getter for the date packed as yyyymmdd, or UNPACKED if the date cannot be packed.
+    public int toPackedInt() {
+        return packed;
+    }
+
+    // Replace the clock that decides what today is, for tests and simulations.
+    public static void setClock(Clock newClock) {
+        clock = new DayClock(newClock);
+    }
+
+    // Static method to get today's date from the current clock.
+    public static Date today() {
+        return ofEpochDay(clock.today());
+    }
+
+    // Getter for the clock behind today(), shared with the business calendar.
+    static DayClock clock() {
+        return clock;
     }
 
     // Getter methods for retrieving the day, month, and year.
@@ -70,19 +156,113 @@ public class Date implements Comparable<Date> {
         return true;
     }
 
-    // Static method to create a Date from a string in MM/DD/YYYY format.
+    // Static method to create a Date from a string in MM/DD/YYYY format, or null if it is not in that format.
     public static Date fromString(String dateStr) {
         try {
-            String[] parts = dateStr.split("/");
-            int month = Integer.parseInt(parts[0]);
-            int day = Integer.parseInt(parts[1]);
-            int year = Integer.parseInt(parts[2]);
-            return new Date(year, month, day);
-        } catch (NumberFormatException e) {
+            return parse(dateStr);
+        } catch (IllegalArgumentException e) {
             return null;
         }
     }
 
+    // Static method to parse a whole string in MM/DD/YYYY format.
+    public static Date parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    // Static method to parse the characters from start up to end as MM/DD/YYYY without creating substrings.
+    // Each field is a whole number with an optional sign, like Integer.parseInt accepts; the date itself is
+    // not validated. Throws IllegalArgumentException naming the field that is missing or malformed.
+    public static Date parse(CharSequence text, int start, int end) {
+        int month = 0;
+        int day = 0;
+        int year = 0;
+        int pos = start;
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            boolean negative = false;
+            if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                negative = text.charAt(pos) == '-';
+                pos++;
+            }
+            int digitsStart = pos;
+            long value = 0;
+            for (; pos < end && text.charAt(pos) != '/'; pos++) {
+                char c = text.charAt(pos);
+                if (c < '0' || c > '9') {
+                    throw formatError(text, start, end, "Invalid character '" + c + "' in the " + FIELD_NAMES[field]);
+                }
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) {
+                    throw formatError(text, start, end, "The " + FIELD_NAMES[field] + " is too large");
+                }
+            }
+            if (pos == digitsStart) {
+                throw formatError(text, start, end, "Missing " + FIELD_NAMES[field]);
+            }
+            int number = (int) (negative ? -value : value);
+            if (field == 0) {
+                month = number;
+            } else if (field == 1) {
+                day = number;
+            } else {
+                year = number;
+            }
+            if (field < FIELD_NAMES.length - 1) {
+                if (pos == end) {
+                    throw formatError(text, start, end, "Missing " + FIELD_NAMES[field + 1]);
+                }
+                pos++; // Skip the slash.
+            }
+        }
+        if (pos < end) {
+            throw formatError(text, start, end, "Unexpected text after the year");
+        }
+        return of(year, month, day);
+    }
+
+    // Builds the exception for a malformed date, quoting the text that was parsed.
+    private static IllegalArgumentException formatError(CharSequence text, int start, int end, String problem) {
+        return new IllegalArgumentException(problem + " in date \"" + text.subSequence(start, end) + "\"; expected MM/DD/YYYY.");
+    }
+
+    // Number of days from 1/1/1970 to this date, negative for earlier dates. Invalid dates roll over like a lenient Calendar.
+    // Years beyond about 5.8 million either way are clamped to Integer.MAX_VALUE or Integer.MIN_VALUE, so they stay
+    // in the future or the past but no longer land on an exact weekday.
+    public int toEpochDay() {
+        return epochDay;
+    }
+
+    // Epoch day arithmetic; months and days out of range roll over into the next or previous ones, as Calendar does.
+    // Done in long so that no int year, month or day can overflow, then clamped to the int range.
+    private static int epochDay(int year, int month, int date) {
+        long months = (long) year * 12 + month - 1;
+        int monthOfYear = (int) Math.floorMod(months, 12L) + 1;
+        long y = Math.floorDiv(months, 12L) - (monthOfYear <= 2 ? 1 : 0); // Count years from March so the leap day falls at the end.
+        long era = Math.floorDiv(y, QUATERCENTENNIAl);
+        long yearOfEra = y - era * QUATERCENTENNIAl;
+        long dayOfYear = (153 * ((monthOfYear + 9) % 12) + 2) / 5 + (long) date - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL + dayOfYear;
+        long day = era * DAYS_PER_ERA + dayOfEra - DAYS_TO_EPOCH;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, day));
+    }
+
+    // Static method to create the Date that is the given number of days from 1/1/1970.
+    public static Date ofEpochDay(int epochDay) {
+        long shifted = (long) epochDay + DAYS_TO_EPOCH;
+        int era = (int) Math.floorDiv(shifted, DAYS_PER_ERA);
+        int dayOfEra = (int) (shifted - (long) era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL);
+        int marchMonth = (5 * dayOfYear + 2) / 153; // 0 is March, 11 is February.
+        int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        int year = yearOfEra + era * QUATERCENTENNIAl + (month <= 2 ? 1 : 0);
+        if (year >= POOL_FIRST_YEAR && year <= POOL_LAST_YEAR) {
+            return of(year, month, day);
+        }
+        return new Date(year, month, day, epochDay);
+    }
+
     // Private method to check if a year is a leap year.
     private boolean isLeapYear(int year) {
         if (year % QUADRENNIAL == 0) {
@@ -94,55 +274,28 @@ public class Date implements Comparable<Date> {
         return false;  // Not divisible by 4.
     }
 
-    // Method to check if the date is a past date.
+    // Method to check if the date is before today.
     public boolean isPastDate() {
-        Calendar today = Calendar.getInstance(); // Get today's date.
-
-        // Get the current year, month, and day.
-        int currentYear = today.get(Calendar.YEAR);
-        int currentMonth = today.get(Calendar.MONTH) + 1; // Calendar.MONTH is 0-based.
-        int currentDay = today.get(Calendar.DAY_OF_MONTH);
-
-        // Compare the year first.
-        if (year < currentYear) {
-            return true;
-        } else if (year == currentYear) {
-            // If the year is the same, compare the month.
-            if (month < currentMonth) {
-                return true;
-            } else if (month == currentMonth) {
-                // If the month is the same, compare the day.
-                return date < currentDay;
-            }
-        }
-
-        return false; // The date is today or in the future.
+        return epochDay < clock.today();
     }
 
-    // Method to check if the date falls on a weekday.
+    // Method to check if the date falls on a weekday, counting days from a known Thursday.
     public boolean isWeekday() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(year, month - 1, date); // Calendar.MONTH is 0-based.
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-        return dayOfWeek != Calendar.SATURDAY && dayOfWeek != Calendar.SUNDAY;
+        return Math.floorMod((long) epochDay + EPOCH_WEEKDAY, DAYS_PER_WEEK) < SATURDAY;
     }
 
-    // Method to check if the date is within the next six months.
+    // Method to check if the date is from today up to, but not including, six months from today.
     public boolean isWithinSixMonths() {
-        Calendar today = Calendar.getInstance();  // Get today's date.
-        Calendar sixMonthsFromNow = Calendar.getInstance();
-        sixMonthsFromNow.add(Calendar.MONTH, 6); // Add six months to today's date.
-
-        Calendar appointmentDate = Calendar.getInstance();
-        appointmentDate.set(year, month - 1, date); // Set the appointment date.
-
-        // Check if the appointment date is between now and six months from now.
-        return appointmentDate.after(today) && appointmentDate.before(sixMonthsFromNow);
+        return epochDay >= clock.today() && epochDay < clock.sixMonthsFromToday();
     }
 
     // Comparing two dates using Comparable interface.
     @Override
     public int compareTo(Date b) {
+        if (packed != UNPACKED && b.packed != UNPACKED) {
+            return Integer.compare(packed, b.packed); // Same order as the field comparison below.
+        }
+
         // Compare by year.
         if (this.year < b.year) {
             return -1;
@@ -177,9 +330,18 @@ public class Date implements Comparable<Date> {
             return false;
         }
         Date temp = (Date) o;
+        if (packed != UNPACKED && temp.packed != UNPACKED) {
+            return packed == temp.packed;
+        }
         return this.compareTo(temp) == 0;
     }
 
+    // Hash code consistent with equals: equal dates have the same year, month and day.
+    @Override
+    public int hashCode() {
+        return (year * 31 + month) * 32 + date;
+    }
+
     // Method to convert a date to String format (MM/DD/YYYY).
     @Override
     public String toString() {
@@ -1,7 +1,14 @@
 package util;
 
+import org.junit.After;
 import org.junit.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Calendar;
+
 import static org.junit.Assert.*;
 
 /**
@@ -61,4 +68,226 @@ public class DateTest {
         Date date = new Date(2016, 2, 29);
         assertTrue(date.isValid());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests epoch day conversion in both directions against java.time over several centuries.
+     */
+    @Test
+    public void testEpochDayRoundTrip() {
+        for (int epochDay = -150000; epochDay <= 150000; epochDay += 7) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            Date date = Date.ofEpochDay(epochDay);
+            assertEquals(new Date(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()), date);
+            assertEquals(epochDay, date.toEpochDay());
+        }
+    }
+
+    /**
+     * Puts the system clock back after each test that fixed today's date.
+     */
+    @After
+    public void restoreClock() {
+        TestClock.reset();
+    }
+
+    /**
+     * Tests weekdays against java.time, and invalid dates against a lenient Calendar.
+     */
+    @Test
+    public void testIsWeekday() {
+        for (int epochDay = -1000; epochDay <= 1000; epochDay++) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            assertEquals(expected.getDayOfWeek().getValue() <= 5, Date.ofEpochDay(epochDay).isWeekday());
+        }
+        int[][] invalid = {{2027, 2, 30}, {2026, 13, 4}, {2026, 0, 15}, {2026, 11, 0}, {2026, 4, 31}};
+        for (int[] fields : invalid) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.set(fields[0], fields[1] - 1, fields[2]);
+            int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+            assertEquals(dayOfWeek != Calendar.SATURDAY && dayOfWeek != Calendar.SUNDAY,
+                    new Date(fields[0], fields[1], fields[2]).isWeekday());
+        }
+    }
+
+    /**
+     * Tests past dates relative to a fixed today.
+     */
+    @Test
+    public void testIsPastDate() {
+        TestClock.setToday(2026, 10, 18);
+        assertTrue(new Date(2026, 10, 17).isPastDate());
+        assertFalse(new Date(2026, 10, 18).isPastDate());
+        assertFalse(new Date(2026, 10, 19).isPastDate());
+        assertTrue(new Date(1999, 12, 31).isPastDate());
+    }
+
+    /**
+     * Tests the six-month window, including a start day the end month is too short for.
+     */
+    @Test
+    public void testIsWithinSixMonths() {
+        TestClock.setToday(2026, 10, 18);
+        assertTrue(new Date(2026, 10, 18).isWithinSixMonths());
+        assertTrue(new Date(2027, 4, 17).isWithinSixMonths());
+        assertFalse(new Date(2027, 4, 18).isWithinSixMonths());
+        assertFalse(new Date(2026, 10, 17).isWithinSixMonths());
+
+        TestClock.setToday(2026, 8, 31); // Six months later is clamped to 2/28/2027.
+        assertTrue(new Date(2027, 2, 27).isWithinSixMonths());
+        assertFalse(new Date(2027, 2, 28).isWithinSixMonths());
+    }
+
+    /**
+     * Tests that today moves forward when the clock crosses midnight in its zone.
+     */
+    @Test
+    public void testClockRollsOverAtMidnight() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        long[] millis = {LocalDate.of(2026, 10, 18).atTime(23, 59, 59).atZone(zone).toInstant().toEpochMilli()};
+        Clock moving = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return zone;
+            }
+
+            @Override
+            public Clock withZone(ZoneId newZone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis[0]);
+            }
+        };
+        DayClock clock = new DayClock(moving);
+        assertEquals(LocalDate.of(2026, 10, 18).toEpochDay(), clock.today());
+        millis[0] += 1000;
+        assertEquals(LocalDate.of(2026, 10, 19).toEpochDay(), clock.today());
+        assertEquals(LocalDate.of(2027, 4, 19).toEpochDay(), clock.sixMonthsFromToday());
+    }
+
+    /**
+     * Verifies that pooled dates are shared, and dates outside the pool are still created.
+     */
+    @Test
+    public void testOfSharesInstances() {
+        assertSame(Date.of(2026, 11, 3), Date.of(2026, 11, 3));
+        assertSame(Date.of(1985, 2, 29), Date.fromString("2/29/1985"));
+        assertSame(Date.of(2026, 10, 18), Date.ofEpochDay((int) LocalDate.of(2026, 10, 18).toEpochDay()));
+        Date outside = Date.of(1850, 1, 1);
+        assertEquals(new Date(1850, 1, 1), outside);
+        assertFalse(Date.of(2026, 13, 40).isValid());
+    }
+
+    /**
+     * Verifies that the packed comparison orders and equates dates like the field comparison,
+     * including invalid dates whose month or day does not fit in two digits.
+     */
+    @Test
+    public void testPackedCompareMatchesFields() {
+        int[] years = {-5, 0, 1999, 2026, 2027};
+        int[] parts = {-1, 0, 1, 12, 13, 31, 99, 100, 250};
+        java.util.List<Date> dates = new java.util.ArrayList<>();
+        java.util.List<int[]> fields = new java.util.ArrayList<>();
+        for (int year : years) {
+            for (int month : parts) {
+                for (int day : parts) {
+                    dates.add(new Date(year, month, day));
+                    fields.add(new int[]{year, month, day});
+                }
+            }
+        }
+        for (int i = 0; i < dates.size(); i++) {
+            for (int j = 0; j < dates.size(); j++) {
+                int[] a = fields.get(i);
+                int[] b = fields.get(j);
+                int expected = a[0] != b[0] ? Integer.compare(a[0], b[0])
+                        : a[1] != b[1] ? Integer.compare(a[1], b[1]) : Integer.compare(a[2], b[2]);
+                assertEquals(expected, dates.get(i).compareTo(dates.get(j)));
+                assertEquals(expected == 0, dates.get(i).equals(dates.get(j)));
+            }
+        }
+        assertEquals(20261103, Date.of(2026, 11, 3).toPackedInt());
+        assertTrue(new Date(Integer.MIN_VALUE, 1, 1).compareTo(new Date(0, 1, 1)) < 0);
+        assertEquals(Integer.MIN_VALUE, new Date(Integer.MIN_VALUE, 1, 1).toPackedInt());
+    }
+
+    /**
+     * Parses dates from the middle of a longer text, including signed and invalid fields.
+     */
+    @Test
+    public void testParseRange() {
+        String command = "D,11/3/2026,1";
+        assertSame(Date.of(2026, 11, 3), Date.parse(command, 2, 11));
+        assertEquals(new Date(2026, -1, 40), Date.parse("-1/+40/2026"));
+        assertEquals(new Date(2024, 2, 30), Date.fromString("02/30/2024"));
+    }
+
+    /**
+     * Verifies that malformed dates are rejected with a message naming the problem.
+     */
+    @Test
+    public void testParseErrors() {
+        String[][] cases = {
+                {"", "Missing month"},
+                {"11/3", "Missing year"},
+                {"11//2026", "Missing day"},
+                {"11/3/", "Missing year"},
+                {"1a/3/2026", "Invalid character 'a' in the month"},
+                {"11/3/2026/1", "Unexpected text after the year"},
+                {"11/3/99999999999", "The year is too large"},
+        };
+        for (String[] c : cases) {
+            try {
+                Date.parse(c[0]);
+                fail("Parsed " + c[0]);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith(c[1] + " in date \"" + c[0] + "\""));
+            }
+        }
+        assertNull(Date.fromString("11/3"));
+    }
+
+    /**
+     * Verifies epoch days and weekdays against java.time for years far from today, negative ones included.
+     */
+    @Test
+    public void testEpochDayForDistantYears() {
+        int[] years = {-5_000_000, -400, -1, 0, 1, 9_999, 10_000, 5_000_000};
+        for (int year : years) {
+            for (int month = 1; month <= 12; month++) {
+                LocalDate expected = LocalDate.of(year, month, 15);
+                Date date = new Date(year, month, 15);
+                assertEquals(expected.toEpochDay(), date.toEpochDay());
+                assertEquals(expected.getDayOfWeek().getValue() <= 5, date.isWeekday());
+                assertEquals(date, Date.ofEpochDay(date.toEpochDay()));
+            }
+        }
+    }
+
+    /**
+     * Verifies that years too large or too small for an int epoch day stay in the future or the
+     * past instead of wrapping around into the booking window.
+     */
+    @Test
+    public void testHugeYearsNeverInWindow() {
+        TestClock.setToday(2026, 10, 18);
+        BusinessCalendar calendar = new BusinessCalendar();
+        Date[] future = {new Date(23520469, 1, 15), Date.parse("1/15/23520469"),
+                new Date(Integer.MAX_VALUE, 12, 31), new Date(2026, Integer.MAX_VALUE, Integer.MAX_VALUE)};
+        for (Date date : future) {
+            assertFalse(date.toString(), date.isPastDate());
+            assertFalse(date.toString(), date.isWithinSixMonths());
+            assertFalse(date.toString(), calendar.isBookable(date));
+        }
+        assertEquals(Integer.MAX_VALUE, new Date(Integer.MAX_VALUE, 12, 31).toEpochDay());
+        Date[] past = {new Date(-23520469, 1, 15), new Date(Integer.MIN_VALUE, 1, 1), Date.parse("1/15/-2147483647")};
+        for (Date date : past) {
+            assertTrue(date.toString(), date.isPastDate());
+            assertFalse(date.toString(), date.isWithinSixMonths());
+            assertFalse(date.toString(), calendar.isBookable(date));
+        }
+        assertEquals(Integer.MIN_VALUE, new Date(Integer.MIN_VALUE, 1, 1).toEpochDay());
+    }
+}
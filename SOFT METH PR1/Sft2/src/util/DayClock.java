@@ -0,0 +1,88 @@
+package util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Supplies today's date, and the date six months from today, as epoch days. Both are worked
+ * out once per day from a java.time Clock and cached until midnight in the clock's zone, so
+ * asking for them costs one clock read and no allocation. Tests and simulations can pass a
+ * fixed or offset Clock to control what "today" is.
+ */
+public class DayClock {
+    // Length of the booking window, in months.
+    private static final int BOOKING_MONTHS = 6;
+
+    private final Clock clock;
+    private volatile Day day; // The cached day; replaced as a whole so readers never see a half update.
+
+    /**
+     * The cached values for one calendar day, and the instants that day starts and ends at.
+     */
+    private static class Day {
+        private final long start;
+        private final long end;
+        private final int today;
+        private final int windowEnd;
+
+        private Day(long start, long end, int today, int windowEnd) {
+            this.start = start;
+            this.end = end;
+            this.today = today;
+            this.windowEnd = windowEnd;
+        }
+    }
+
+    /**
+     * Creates a DayClock that reads the given clock.
+     *
+     * @param clock Source of the current instant and time zone.
+     */
+    public DayClock(Clock clock) {
+        this.clock = clock;
+        this.day = load(clock.millis());
+    }
+
+    /**
+     * @return Today's date as an epoch day.
+     */
+    public int today() {
+        return current().today;
+    }
+
+    /**
+     * Gets the first day past the six-month booking window. Like Calendar.add, adding the months
+     * keeps the day of the month, or uses the last day of the month when it is too short.
+     *
+     * @return The date six months from today, as an epoch day.
+     */
+    public int sixMonthsFromToday() {
+        return current().windowEnd;
+    }
+
+    /**
+     * Gets the cached day, loading a new one if the clock has moved past it.
+     */
+    private Day current() {
+        long now = clock.millis();
+        Day cached = day;
+        if (now < cached.start || now >= cached.end) {
+            cached = load(now);
+            day = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Works out the calendar day containing the given instant.
+     */
+    private Day load(long now) {
+        ZoneId zone = clock.getZone();
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+        long start = today.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(start, end, (int) today.toEpochDay(), (int) today.plusMonths(BOOKING_MONTHS).toEpochDay());
+    }
+}
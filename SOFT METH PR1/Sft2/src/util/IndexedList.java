@@ -0,0 +1,301 @@
+package util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.Predicate;
+
+/**
+ * Represents a List that keeps a hash index from each element to its position.
+ * contains, indexOf and remove look the element up in the index instead of scanning
+ * the backing array, while iteration order and the rest of the List API stay the same.
+ * Elements stored in this list must implement hashCode consistently with equals.
+ *
+ * Removing or inserting still shifts the elements after that position, O(n) like List,
+ * but the index follows the shift through an array of entries kept in step with the
+ * backing array, so no shifted element is hashed or compared. Finding an element to
+ * remove costs one hash lookup instead of a scan.
+ *
+ * @param <E> Type of elements in the list.
+ */
+public class IndexedList<E> extends List<E> {
+    private final HashMap<E, Slot> index; // Maps each distinct element to where it appears.
+    private Slot[] slots; // slots[i] is the index entry of the element at position i.
+
+    /**
+     * Index entry for one distinct element: the position of its first occurrence
+     * and how many equal elements are currently in the list.
+     */
+    private static class Slot {
+        private int first;
+        private int count;
+
+        private Slot(int first) {
+            this.first = first;
+            this.count = 1;
+        }
+    }
+
+    /**
+     * Creates an empty indexed list.
+     */
+    public IndexedList() {
+        super();
+        index = new HashMap<>();
+        slots = new Slot[16];
+    }
+
+    /**
+     * Creates an empty indexed list with room for the given number of elements.
+     *
+     * @param initialCapacity Number of elements the list can hold before growing.
+     */
+    public IndexedList(int initialCapacity) {
+        super(initialCapacity);
+        index = new HashMap<>(Math.max(16, (int) (initialCapacity / 0.75f) + 1));
+        slots = new Slot[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Checks if the list contains an element equal to the given one.
+     *
+     * @param e Element to look for.
+     * @return True if an equal element is in the list; otherwise false.
+     */
+    @Override
+    public boolean contains(E e) {
+        return index.containsKey(e);
+    }
+
+    /**
+     * Returns the position of the first element equal to the given one.
+     *
+     * @param e Element to look for.
+     * @return Index of the first equal element, or -1 if there is none.
+     */
+    @Override
+    public int indexOf(E e) {
+        Slot slot = index.get(e);
+        return slot == null ? -1 : slot.first;
+    }
+
+    /**
+     * Adds an element to the end of the list and records its position.
+     *
+     * @param e Element to add.
+     */
+    @Override
+    public void add(E e) {
+        super.add(e);
+        addToIndex(e, size() - 1);
+    }
+
+    /**
+     * Inserts an element at a specific index. Elements after it shift up by one,
+     * so their recorded positions are moved up as well, without hashing them again.
+     *
+     * @param i Index to insert at.
+     * @param e Element to insert.
+     */
+    @Override
+    public void add(int i, E e) {
+        super.add(i, e);
+        ensureSlots(size());
+        System.arraycopy(slots, i, slots, i + 1, size() - 1 - i);
+        // Walk backwards so an entry moved up is not met again at its next copy.
+        for (int j = size() - 1; j > i; j--) {
+            if (slots[j].first == j - 1) {
+                slots[j].first = j; // Only first occurrences are recorded, so only those move.
+            }
+        }
+        addToIndex(e, i);
+    }
+
+    /**
+     * Adds every element of another list, in index order, to the end of this list.
+     *
+     * @param other List whose elements are appended.
+     */
+    @Override
+    public void addAll(List<? extends E> other) {
+        int start = size();
+        super.addAll(other);
+        for (int i = start; i < size(); i++) {
+            addToIndex(get(i), i);
+        }
+    }
+
+    /**
+     * Removes the first element equal to the given one, if present.
+     *
+     * @param e Element to remove.
+     */
+    @Override
+    public void remove(E e) {
+        Slot slot = index.get(e);
+        if (slot == null) return; // If the element is not found, do nothing
+        removeAt(slot.first);
+    }
+
+    /**
+     * Removes the element at a specific index. Elements after it shift down by one,
+     * so their recorded positions are moved down as well, without hashing them again.
+     *
+     * @param i Index of the element to remove.
+     * @return The removed element.
+     */
+    @Override
+    public E removeAt(int i) {
+        E removed = super.removeAt(i);
+        Slot removedSlot = slots[i];
+        System.arraycopy(slots, i + 1, slots, i, size() - i);
+        slots[size()] = null;
+        for (int j = i; j < size(); j++) {
+            if (slots[j].first == j + 1) {
+                slots[j].first = j; // Only first occurrences are recorded, so only those move.
+            }
+        }
+        removeFromIndex(removed, removedSlot, i);
+        return removed;
+    }
+
+    /**
+     * Removes every element and empties the index.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        index.clear();
+        Arrays.fill(slots, null);
+    }
+
+    /**
+     * Removes a range of elements with one shift, then re-indexes the survivors.
+     *
+     * @param from First index to remove (inclusive).
+     * @param to Last index to remove (exclusive).
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        super.removeRange(from, to);
+        rebuildIndex();
+    }
+
+    /**
+     * Removes every element matching the filter in one pass, then re-indexes the survivors.
+     *
+     * @param filter Test deciding which elements are removed.
+     * @return True if any element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (!super.removeIf(filter)) {
+            return false;
+        }
+        rebuildIndex();
+        return true;
+    }
+
+    /**
+     * Replaces the element at a specific index, updating the index for both elements.
+     *
+     * @param i Index of the element to replace.
+     * @param e New element.
+     */
+    @Override
+    public void set(int i, E e) {
+        E old = get(i);
+        super.set(i, e);
+        if (old.equals(e)) {
+            return; // Same index entry either way.
+        }
+        Slot oldSlot = slots[i];
+        slots[i] = null;
+        removeFromIndex(old, oldSlot, i);
+        addToIndex(e, i);
+    }
+
+    /**
+     * Re-indexes every element after util.Sort has reordered the backing array.
+     */
+    @Override
+    void reordered() {
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds the whole index from the backing array after a bulk removal or reorder.
+     */
+    private void rebuildIndex() {
+        index.clear();
+        Arrays.fill(slots, null);
+        for (int i = 0; i < size(); i++) {
+            addToIndex(get(i), i);
+        }
+    }
+
+    /**
+     * Records that an element now occupies the given position.
+     *
+     * @param e Element that was placed.
+     * @param position Index the element was placed at.
+     */
+    private void addToIndex(E e, int position) {
+        ensureSlots(position + 1);
+        Slot slot = index.get(e);
+        if (slot == null) {
+            slot = new Slot(position);
+            index.put(e, slot);
+        } else {
+            slot.count++;
+            if (position < slot.first) {
+                slot.first = position;
+            }
+        }
+        slots[position] = slot;
+    }
+
+    /**
+     * Records that an element no longer occupies the given position. If it was the
+     * first occurrence and equal elements remain, the next occurrence is located.
+     *
+     * @param e Element that was taken out.
+     * @param slot Index entry the element had.
+     * @param position Index the element was taken from.
+     */
+    private void removeFromIndex(E e, Slot slot, int position) {
+        slot.count--;
+        if (slot.count == 0) {
+            index.remove(e);
+            return;
+        }
+        if (slot.first == position) {
+            slot.first = findFrom(slot, position);
+        }
+    }
+
+    /**
+     * Scans forward for the next element sharing the given index entry. Equal elements
+     * share one entry, so this compares references instead of calling equals.
+     *
+     * @param slot Index entry to look for.
+     * @param from Index to start scanning at.
+     * @return Index of the next equal element, or -1 if there is none.
+     */
+    private int findFrom(Slot slot, int from) {
+        for (int i = from; i < size(); i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Grows the entry array so it has a place for every position below the given count.
+     */
+    private void ensureSlots(int count) {
+        if (count > slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(count, slots.length << 1));
+        }
+    }
+}
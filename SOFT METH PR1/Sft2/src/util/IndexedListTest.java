@@ -0,0 +1,169 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the IndexedList hash index stays in step with the backing array.
+ */
+public class IndexedListTest {
+    /**
+     * Builds an indexed list from the given words, in order.
+     */
+    private static IndexedList<String> listOf(String... words) {
+        IndexedList<String> list = new IndexedList<>();
+        for (String word : words) {
+            list.add(word);
+        }
+        return list;
+    }
+
+    /**
+     * Verifies that indexOf and contains agree with the element positions after adds.
+     */
+    @Test
+    public void testIndexOfAfterAdd() {
+        IndexedList<String> list = listOf("a", "b", "c");
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(2, list.indexOf("c"));
+        assertEquals(-1, list.indexOf("d"));
+        assertTrue(list.contains("b"));
+        assertFalse(list.contains("d"));
+    }
+
+    /**
+     * Removes an element from the middle and verifies that later positions shift down.
+     */
+    @Test
+    public void testRemoveShiftsPositions() {
+        IndexedList<String> list = listOf("a", "b", "c", "d");
+        list.remove("b");
+        assertFalse(list.contains("b"));
+        assertEquals(3, list.size());
+        assertEquals(1, list.indexOf("c"));
+        assertEquals(2, list.indexOf("d"));
+        assertEquals("c", list.get(1));
+    }
+
+    /**
+     * Verifies that duplicates are removed one at a time, first occurrence first.
+     */
+    @Test
+    public void testDuplicates() {
+        IndexedList<String> list = listOf("x", "a", "x", "b", "x");
+        assertEquals(0, list.indexOf("x"));
+        list.remove("x");
+        assertEquals(1, list.indexOf("x"));
+        list.remove("x");
+        assertEquals(2, list.indexOf("x"));
+        list.remove("x");
+        assertFalse(list.contains("x"));
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(1, list.indexOf("b"));
+    }
+
+    /**
+     * Verifies that set moves the index entry from the old element to the new one.
+     */
+    @Test
+    public void testSet() {
+        IndexedList<String> list = listOf("a", "b", "a");
+        list.set(0, "c");
+        assertEquals(2, list.indexOf("a"));
+        assertEquals(0, list.indexOf("c"));
+        list.set(2, "c");
+        assertFalse(list.contains("a"));
+        assertEquals(0, list.indexOf("c"));
+    }
+
+    /**
+     * Verifies that the circular list still rotates from its head using the index.
+     */
+    @Test
+    public void testCircularListHead() {
+        CircularList<String> ring = new CircularList<>();
+        ring.add("a");
+        ring.add("b");
+        ring.add("c");
+        ring.setHead("b");
+        assertEquals("c", ring.circleGet(1));
+        assertEquals("a", ring.circleGet(2));
+        ring.setHead(ring.circleGet(2));
+        assertEquals("b", ring.circleGet(1));
+        assertEquals("abc", ring.stream().reduce("", String::concat));
+    }
+
+    /**
+     * Verifies that bulk removals leave the index pointing at the new positions.
+     */
+    @Test
+    public void testBulkRemovalsReindex() {
+        IndexedList<String> list = listOf("a", "b", "c", "d", "e");
+        list.removeIf(word -> word.equals("b") || word.equals("d"));
+        assertEquals(1, list.indexOf("c"));
+        assertEquals(2, list.indexOf("e"));
+        assertFalse(list.contains("b"));
+        list.removeRange(0, 1);
+        assertEquals(0, list.indexOf("c"));
+        list.clear();
+        assertFalse(list.contains("c"));
+        assertEquals(-1, list.indexOf("e"));
+    }
+
+    /**
+     * Inserts in the middle and verifies that later positions shift up in the index.
+     */
+    @Test
+    public void testInsertShiftsPositions() {
+        IndexedList<String> list = listOf("a", "b", "c", "b");
+        list.add(1, "x");
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(1, list.indexOf("x"));
+        assertEquals(2, list.indexOf("b"));
+        assertEquals(3, list.indexOf("c"));
+        list.add(0, "c");
+        assertEquals(0, list.indexOf("c"));
+        list.remove("c");
+        assertEquals(3, list.indexOf("c"));
+    }
+
+    /**
+     * Runs a random mix of inserts, removals and sets with many duplicates past the
+     * initial capacity, and checks indexOf against a plain List after every step.
+     */
+    @Test
+    public void testRandomEditsMatchPlainList() {
+        Random random = new Random(7);
+        IndexedList<Integer> indexed = new IndexedList<>();
+        List<Integer> plain = new List<>();
+        for (int step = 0; step < 2000; step++) {
+            int value = random.nextInt(20);
+            int op = random.nextInt(5);
+            if (op == 0 || plain.size() == 0) {
+                indexed.add(value);
+                plain.add(value);
+            } else if (op == 1) {
+                int i = random.nextInt(plain.size() + 1);
+                indexed.add(i, value);
+                plain.add(i, value);
+            } else if (op == 2) {
+                int i = random.nextInt(plain.size());
+                assertEquals(plain.removeAt(i), indexed.removeAt(i));
+            } else if (op == 3) {
+                indexed.remove(value);
+                plain.remove(value);
+            } else {
+                int i = random.nextInt(plain.size());
+                indexed.set(i, value);
+                plain.set(i, value);
+            }
+            assertEquals(plain.size(), indexed.size());
+            for (int v = 0; v < 20; v++) {
+                assertEquals(plain.indexOf(v), indexed.indexOf(v));
+            }
+        }
+    }
+}
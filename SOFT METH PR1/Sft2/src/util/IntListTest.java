@@ -0,0 +1,71 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the IntList methods against java.util.ArrayList.
+ */
+public class IntListTest {
+    /**
+     * Verifies add, get, set, indexOf and removeAt on a few values, negative ones included.
+     */
+    @Test
+    public void testAddGetRemove() {
+        IntList list = new IntList(0);
+        list.add(5);
+        list.add(-3);
+        list.add(5);
+        assertEquals(3, list.size());
+        assertEquals(-3, list.get(1));
+        assertEquals(0, list.indexOf(5));
+        assertTrue(list.contains(-3));
+        list.set(1, 9);
+        assertFalse(list.contains(-3));
+        assertEquals(5, list.removeAt(0));
+        assertArrayEquals(new int[]{9, 5}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(-1, list.indexOf(9));
+    }
+
+    /**
+     * Runs random adds and removes past several growths and compares every value with an ArrayList.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        IntList list = new IntList();
+        ArrayList<Integer> model = new ArrayList<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 5000; step++) {
+            if (model.isEmpty() || random.nextInt(3) > 0) {
+                int value = random.nextInt(200) - 100;
+                list.add(value);
+                model.add(value);
+            } else {
+                int index = random.nextInt(model.size());
+                assertEquals((int) model.remove(index), list.removeAt(index));
+            }
+            assertEquals(model.size(), list.size());
+        }
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals((int) model.get(i), list.get(i));
+        }
+        list.trimToSize();
+        assertEquals(model.size(), list.toArray().length);
+    }
+
+    /**
+     * Verifies that reading past the end is rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetPastEnd() {
+        IntList list = new IntList();
+        list.add(1);
+        list.get(1);
+    }
+}
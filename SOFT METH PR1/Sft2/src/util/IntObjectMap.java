@@ -0,0 +1,207 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from int keys to object values that uses open addressing, so keys are
+ * never boxed and no entry objects are allocated. Collisions are resolved by linear
+ * probing, and removal shifts later entries back instead of leaving tombstones.
+ * Null values are not allowed, because an empty slot is marked by a null value.
+ *
+ * @param <V> Type of values in the map.
+ */
+public class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;      // Table length minus one; the table length is a power of two.
+    private int threshold; // Size at which the table is doubled.
+
+    /**
+     * Callback used by forEach to visit entries without boxing the key.
+     *
+     * @param <V> Type of values in the map.
+     */
+    public interface Visitor<V> {
+        void visit(int key, V value);
+    }
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of entries before resizing.
+     *
+     * @param expectedSize Number of entries expected.
+     */
+    public IntObjectMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @return Number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key Key to look up.
+     * @return The value mapped to the key, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param key Key to look up.
+     * @return True if the key is mapped to a value.
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key Key to map.
+     * @param value Value to store; must not be null.
+     * @return The previous value for the key, or null if there was none.
+     * @throws IllegalArgumentException if the value is null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported.");
+        }
+        int i = slot(key);
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping for a key, if present.
+     *
+     * @param key Key to remove.
+     * @return The value that was mapped to the key, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int i = slot(key);
+        while (values[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == null) {
+            return null;
+        }
+        V removed = (V) values[i];
+        // Shift later entries of the same probe run back into the gap.
+        int gap = i;
+        for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes every entry, keeping the table for reuse.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Visits every entry in table order.
+     *
+     * @param visitor Callback receiving each key and value.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Visitor<? super V> visitor) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                visitor.visit(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Spreads the key bits so that nearby keys land far apart in the table.
+     */
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity / 4 * 3;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = slot(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * @return Smallest power-of-two table length that holds expectedSize entries under the load factor.
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = 4;
+        while (capacity / 4 * 3 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
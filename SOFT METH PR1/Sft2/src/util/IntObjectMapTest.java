@@ -0,0 +1,59 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the IntObjectMap put, get and remove methods against java.util.HashMap.
+ */
+public class IntObjectMapTest {
+    /**
+     * Verifies basic put, replace and remove behavior.
+     */
+    @Test
+    public void testPutGetRemove() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.put(7, "seven"));
+        assertEquals("seven", map.put(7, "SEVEN"));
+        assertEquals("SEVEN", map.get(7));
+        assertEquals(1, map.size());
+        assertEquals("SEVEN", map.remove(7));
+        assertNull(map.get(7));
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Runs random operations on a small key range, so probe runs collide and wrap often,
+     * and checks every key against a HashMap after each step.
+     */
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        IntObjectMap<Integer> map = new IntObjectMap<>(2);
+        HashMap<Integer, Integer> model = new HashMap<>();
+        Random random = new Random(4);
+        for (int step = 0; step < 20000; step++) {
+            int key = random.nextInt(64) * 1024 - 4096; // Includes negative keys.
+            if (random.nextInt(3) == 0) {
+                assertEquals(model.remove(key), map.remove(key));
+            } else {
+                assertEquals(model.put(key, step), map.put(key, step));
+            }
+            assertEquals(model.size(), map.size());
+        }
+        for (int k = -4096; k < 64 * 1024; k += 1024) {
+            assertEquals(model.get(k), map.get(k));
+        }
+    }
+
+    /**
+     * Verifies that null values are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullValueRejected() {
+        new IntObjectMap<String>().put(1, null);
+    }
+}
@@ -8,17 +8,35 @@
  */
 package util;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class List<E> implements Iterable<E> {
     // Instance variables
     private E[] objects;
     private int size;
 
+    // Capacity used by the default constructor
+    private static final int DEFAULT_CAPACITY = 4;
+
     // Default constructor with an initial capacity of 4
-    @SuppressWarnings("unchecked")
     public List() {
-        this.objects = (E[]) new Object[4];
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Constructor that pre-sizes the backing array, for bulk loads of a known size
+    @SuppressWarnings("unchecked")
+    public List(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.objects = (E[]) new Object[initialCapacity];
         this.size = 0;
     }
 
@@ -42,16 +60,38 @@ public class List<E> implements Iterable<E> {
         return -1;
     }
 
-    // Helper method to grow the array when it is full
-    @SuppressWarnings("unchecked")
-    private void grow() {
-        E[] newObjects = (E[]) new Object[objects.length + 4];
-        for (int i = 0; i < size; i++) {
-            newObjects[i] = objects[i];
+    // Helper method to grow the array when it is full.
+    // Capacity grows by half each time, so a run of adds costs amortized O(1) each.
+    private void grow(int minCapacity) {
+        int newCapacity = objects.length + (objects.length >> 1);
+        if (newCapacity < minCapacity) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
         }
+        resize(newCapacity);
+    }
+
+    // Helper method to move the elements into a backing array of the given length
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        E[] newObjects = (E[]) new Object[capacity];
+        System.arraycopy(objects, 0, newObjects, 0, size);
         objects = newObjects;
     }
 
+    // Make sure the list can hold at least minCapacity elements without growing again
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > objects.length) {
+            grow(minCapacity);
+        }
+    }
+
+    // Shrink the backing array to the current size, releasing unused slots
+    public void trimToSize() {
+        if (size < objects.length) {
+            resize(size);
+        }
+    }
+
     // Method to check if the list contains a specific element
     public boolean contains(E e) {
         return find(e) != -1;
@@ -60,24 +100,93 @@ public class List<E> implements Iterable<E> {
     // Add a new element to the list
     public void add(E e) {
         if (size >= objects.length) {
-            grow();
+            grow(size + 1);
         }
         objects[size] = e;
         size++;
     }
 
+    // Insert an element at a specific index, shifting later elements up by one
+    public void add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+        if (size >= objects.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(objects, index, objects, index + 1, size - index);
+        objects[index] = e;
+        size++;
+    }
+
+    // Add every element of another list, in index order, to the end of this list, growing at most once
+    public void addAll(List<? extends E> other) {
+        int count = other.size;
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(other.objects, 0, objects, size, count);
+        size += count;
+    }
+
     // Remove an element from the list
     public void remove(E e) {
-        if (this.contains(e)) {
-            int index = find(e);
-            if (index == -1) return;  // If the element is not found, do nothing
+        int index = find(e);
+        if (index == -1) return;  // If the element is not found, do nothing
+        removeAt(index);
+    }
 
-            for (int i = index; i < size - 1; i++) {
-                objects[i] = objects[i + 1];
+    // Remove the element at a specific index, shifting later elements down by one
+    public E removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+        E removed = objects[index];
+        System.arraycopy(objects, index + 1, objects, index, size - index - 1);
+        objects[size - 1] = null;  // Clear the last element
+        size--;
+        return removed;
+    }
+
+    // Remove every element, clearing the references so they can be garbage collected
+    public void clear() {
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    // Remove the elements from index from (inclusive) to index to (exclusive) with one shift
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds: " + from + " to " + to);
+        }
+        System.arraycopy(objects, to, objects, from, size - to);
+        Arrays.fill(objects, size - (to - from), size, null);
+        size -= to - from;
+    }
+
+    // Remove every element matching the filter, compacting the survivors in a single pass.
+    // The filter is run on every element first, so an exception from it leaves the list unchanged.
+    public boolean removeIf(Predicate<? super E> filter) {
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(objects[i])) {
+                matches.set(i);
+            }
+        }
+        int first = matches.nextSetBit(0);
+        if (first == -1) {
+            return false;
+        }
+        int kept = first;
+        for (int i = first; i < size; i++) {
+            if (!matches.get(i)) {
+                objects[kept++] = objects[i];
             }
-            objects[size - 1] = null;  // Clear the last element
-            size--;
         }
+        Arrays.fill(objects, kept, size, null);
+        size = kept;
+        return true;
     }
 
     // Get the element at a specific index
@@ -101,12 +210,97 @@ public class List<E> implements Iterable<E> {
         return find(e);
     }
 
+    // Backing array for util.Sort, which reorders the first size() slots in place
+    E[] backingArray() {
+        return objects;
+    }
+
+    // Called by util.Sort after it has reordered the backing array
+    void reordered() {
+    }
+
     // Iterator implementation to iterate over the list
     @Override
     public Iterator<E> iterator() {
         return new ListIterator();
     }
 
+    // Spliterator over the backing array; it is sized and splits in halves for parallel streams
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ListSpliterator(0, -1);
+    }
+
+    // Sequential stream over the elements, in iteration order
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // Parallel stream over the elements; worth it once the list holds many thousands of elements
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Private class for splitting the list into index ranges
+    private class ListSpliterator implements Spliterator<E> {
+        private int index; // Next index to visit
+        private int fence; // One past the last index to visit, or -1 until first use
+
+        ListSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        // The range end is bound to the list size on first use, not on creation
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (index >= mid) {
+                return null;
+            }
+            Spliterator<E> prefix = new ListSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= getFence()) {
+                return false;
+            }
+            action.accept(objects[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int hi = getFence();
+            E[] elements = objects;
+            for (int i = index; i < hi; i++) {
+                action.accept(elements[i]);
+            }
+            index = hi;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     // Private class for iterating over the list
     private class ListIterator implements Iterator<E> {
         private int currentIndex = 0;
@@ -126,13 +320,25 @@ public class List<E> implements Iterable<E> {
             return objects[currentIndex++];
         }
     }
+    // Write each element on its own line, in index order, without building one large string
+    public void writeTo(Appendable out) throws IOException {
+        for (int i = 0; i < size; i++) {
+            out.append(String.valueOf(objects[i])).append('\n');
+        }
+    }
+
+    // Elements delimited by \n, with no trailing newline; an empty list gives an empty string
     @Override
     public String toString() {
-        String list = "";
-        for (int i = 0; i < size - 1; i++) {
-            list += objects[i] + "\n";
+        StringBuilder list = new StringBuilder();
+        try {
+            writeTo(list);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // StringBuilder never throws
+        }
+        if (list.length() > 0) {
+            list.setLength(list.length() - 1);
         }
-        list += objects[size - 1];
-        return list;
+        return list.toString();
     }
 }
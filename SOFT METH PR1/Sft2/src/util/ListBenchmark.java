@@ -0,0 +1,91 @@
+package util;
+
+/**
+ * Measures how long it takes to append a large number of elements to a List.
+ * The current List is compared against the original growth strategy, which added
+ * four slots at a time and copied the old array element by element.
+ * Run the main method directly; results are printed to the console.
+ */
+public class ListBenchmark {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+
+    /**
+     * Copy of the original fixed-increment List.add, kept only as a baseline.
+     */
+    private static class FixedGrowthList {
+        private Object[] objects = new Object[4];
+        private int size;
+
+        void add(Object e) {
+            if (size >= objects.length) {
+                Object[] newObjects = new Object[objects.length + 4];
+                for (int i = 0; i < size; i++) {
+                    newObjects[i] = objects[i];
+                }
+                objects = newObjects;
+            }
+            objects[size++] = e;
+        }
+    }
+
+    /**
+     * Times appending n elements using the original fixed-increment growth.
+     *
+     * @param n number of elements to append
+     * @return elapsed time in nanoseconds
+     */
+    private static long timeFixedGrowth(int n) {
+        long start = System.nanoTime();
+        FixedGrowthList list = new FixedGrowthList();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times appending n elements to a default-constructed List.
+     *
+     * @param n number of elements to append
+     * @return elapsed time in nanoseconds
+     */
+    private static long timeGeometricGrowth(int n) {
+        long start = System.nanoTime();
+        List<Integer> list = new List<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times appending n elements to a List that was pre-sized for all of them.
+     *
+     * @param n number of elements to append
+     * @return elapsed time in nanoseconds
+     */
+    private static long timePresized(int n) {
+        long start = System.nanoTime();
+        List<Integer> list = new List<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timeFixedGrowth(SIZES[0]);
+            timeGeometricGrowth(SIZES[0]);
+            timePresized(SIZES[0]);
+        }
+        System.out.printf("%10s %14s %14s %14s %10s%n", "elements", "fixed +4 (ms)", "geometric (ms)", "presized (ms)", "speedup");
+        for (int n : SIZES) {
+            double fixed = timeFixedGrowth(n) / 1e6;
+            double geometric = timeGeometricGrowth(n) / 1e6;
+            double presized = timePresized(n) / 1e6;
+            System.out.printf("%10d %14.2f %14.2f %14.2f %9.0fx%n", n, fixed, geometric, presized, fixed / geometric);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package util;
 import org.junit.Test;
 import p2.*;
 
+import java.io.IOException;
+import java.util.Spliterator;
+
 import static org.junit.Assert.*;
 
 
@@ -64,5 +67,121 @@ public class ListTest {
         providers.remove(testTech);
         assertFalse(providers.contains(testTech));
     }
-}
 
+    /**
+     * Adds far more elements than the default capacity and verifies that every one is kept in order.
+     */
+    @Test
+    public void testGrowKeepsOrder() {
+        List<Integer> numbers = new List<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        assertEquals(1000, numbers.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), numbers.get(i));
+        }
+    }
+
+    /**
+     * Verifies that addAll appends the other list in order, including adding a list to itself.
+     */
+    @Test
+    public void testAddAll() {
+        List<String> first = new List<>(1);
+        first.add("a");
+        List<String> second = new List<>();
+        second.add("b");
+        second.add("c");
+        first.addAll(second);
+        assertEquals(3, first.size());
+        assertEquals("a", first.get(0));
+        assertEquals("c", first.get(2));
+        first.addAll(first);
+        assertEquals(6, first.size());
+        assertEquals("a", first.get(3));
+        assertEquals("c", first.get(5));
+    }
+
+    /**
+     * Verifies that ensureCapacity and trimToSize do not change the contents of the list.
+     */
+    @Test
+    public void testCapacityChangesKeepContents() {
+        List<String> words = new List<>(0);
+        words.ensureCapacity(100);
+        words.add("x");
+        words.add("y");
+        words.trimToSize();
+        assertEquals(2, words.size());
+        assertEquals("y", words.get(1));
+        words.add("z");
+        assertEquals("z", words.get(2));
+    }
+
+    /**
+     * Verifies that toString and writeTo put one element per line, and that an empty list is blank.
+     */
+    @Test
+    public void testRendering() throws IOException {
+        List<String> words = new List<>();
+        assertEquals("", words.toString());
+        words.add("a");
+        words.add("b");
+        assertEquals("a\nb", words.toString());
+        StringBuilder out = new StringBuilder();
+        words.writeTo(out);
+        assertEquals("a\nb\n", out.toString());
+    }
+
+    /**
+     * Verifies that removeIf keeps the surviving elements in their original order.
+     */
+    @Test
+    public void testRemoveIf() {
+        List<Integer> numbers = new List<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+        assertTrue(numbers.removeIf(n -> n % 3 == 0));
+        assertEquals("1\n2\n4\n5\n7\n8", numbers.toString());
+        assertFalse(numbers.removeIf(n -> n > 100));
+        assertEquals(6, numbers.size());
+    }
+
+    /**
+     * Verifies removeRange and clear.
+     */
+    @Test
+    public void testRemoveRangeAndClear() {
+        List<Integer> numbers = new List<>();
+        for (int i = 0; i < 6; i++) {
+            numbers.add(i);
+        }
+        numbers.removeRange(1, 4);
+        assertEquals("0\n4\n5", numbers.toString());
+        numbers.clear();
+        assertTrue(numbers.isEmpty());
+        numbers.add(9);
+        assertEquals(Integer.valueOf(9), numbers.get(0));
+    }
+
+    /**
+     * Verifies that sequential and parallel streams see every element, and that the
+     * spliterator splits into two sized halves.
+     */
+    @Test
+    public void testStreams() {
+        List<Integer> numbers = new List<>();
+        for (int i = 1; i <= 10000; i++) {
+            numbers.add(i);
+        }
+        assertEquals(50005000L, numbers.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(50005000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(Integer.valueOf(1), numbers.parallelStream().findFirst().orElse(null));
+        Spliterator<Integer> second = numbers.spliterator();
+        Spliterator<Integer> first = second.trySplit();
+        assertEquals(5000, first.estimateSize());
+        assertEquals(5000, second.estimateSize());
+    }
+}
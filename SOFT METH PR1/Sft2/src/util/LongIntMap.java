@@ -0,0 +1,192 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from long keys to int values that uses open addressing, so neither keys
+ * nor values are boxed and no entry objects are allocated. It is meant for indexes keyed
+ * by several small integers packed into one long, such as an ordinal and an epoch day.
+ * Collisions are resolved by linear probing, and removal shifts later entries back
+ * instead of leaving tombstones.
+ */
+public class LongIntMap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;      // Table length minus one; the table length is a power of two.
+    private int threshold; // Size at which the table is doubled.
+
+    /**
+     * Callback used by forEach to visit entries without boxing.
+     */
+    public interface Visitor {
+        void visit(long key, int value);
+    }
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public LongIntMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of entries before resizing.
+     *
+     * @param expectedSize Number of entries expected.
+     */
+    public LongIntMap(int expectedSize) {
+        allocate(IntObjectMap.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @return Number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key Key to look up.
+     * @param defaultValue Value to return when the key is absent.
+     * @return The value mapped to the key, or defaultValue if there is none.
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    /**
+     * @param key Key to look up.
+     * @return True if the key is mapped to a value.
+     */
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key Key to map.
+     * @param value Value to store.
+     */
+    public void put(long key, int value) {
+        int i = slot(key);
+        while (used[i]) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Removes the mapping for a key, if present.
+     *
+     * @param key Key to remove.
+     * @return True if the key was mapped and has been removed.
+     */
+    public boolean remove(long key) {
+        int i = find(key);
+        if (i < 0) {
+            return false;
+        }
+        // Shift later entries of the same probe run back into the gap.
+        int gap = i;
+        for (int j = (i + 1) & mask; used[j]; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        used[gap] = false;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every entry, keeping the table for reuse.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Visits every entry in table order.
+     *
+     * @param visitor Callback receiving each key and value.
+     */
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return Table position holding the key, or -1 if the key is absent.
+     */
+    private int find(long key) {
+        for (int i = slot(key); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Folds the key to an int and spreads the bits so that nearby keys land far apart.
+     */
+    private int slot(long key) {
+        int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        threshold = capacity / 4 * 3;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int j = slot(oldKeys[i]);
+                while (used[j]) {
+                    j = (j + 1) & mask;
+                }
+                used[j] = true;
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the LongIntMap put, get and remove methods against java.util.HashMap.
+ */
+public class LongIntMapTest {
+    /**
+     * Runs random operations on packed keys and checks every key against a HashMap.
+     */
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        LongIntMap map = new LongIntMap(2);
+        HashMap<Long, Integer> model = new HashMap<>();
+        Random random = new Random(9);
+        for (int step = 0; step < 20000; step++) {
+            long key = ((long) random.nextInt(8) << 32) | random.nextInt(16);
+            if (random.nextInt(3) == 0) {
+                assertEquals(model.remove(key) != null, map.remove(key));
+            } else {
+                model.put(key, step);
+                map.put(key, step);
+            }
+            assertEquals(model.size(), map.size());
+        }
+        for (long high = 0; high < 8; high++) {
+            for (int low = 0; low < 16; low++) {
+                long key = (high << 32) | low;
+                assertEquals(model.containsKey(key), map.containsKey(key));
+                assertEquals((int) model.getOrDefault(key, -1), map.getOrDefault(key, -1));
+            }
+        }
+    }
+
+    /**
+     * Verifies that clear empties the map and that it can be reused afterwards.
+     */
+    @Test
+    public void testClear() {
+        LongIntMap map = new LongIntMap();
+        map.put(1L, 1);
+        map.put(-1L, 2);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+        map.put(-1L, 3);
+        assertEquals(3, map.getOrDefault(-1L, 0));
+    }
+}
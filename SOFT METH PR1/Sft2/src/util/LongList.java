@@ -0,0 +1,161 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of long values stored in a plain long array, so values are never boxed.
+ * It grows the same way List does and is meant for index keys that pack several small
+ * integers, such as an epoch day and a provider ordinal, into one long.
+ */
+public class LongList {
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private long[] values;
+    private int size;
+
+    /**
+     * Creates an empty list with the default capacity.
+     */
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for the given number of values.
+     *
+     * @param initialCapacity Number of values the list can hold before growing.
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        values = new long[initialCapacity];
+    }
+
+    /**
+     * @return Number of values in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the list holds no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value Value to append.
+     */
+    public void add(long value) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * @param index Position to read.
+     * @return The value at the given position.
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at the given position.
+     *
+     * @param index Position to write.
+     * @param value New value.
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        values[index] = value;
+    }
+
+    /**
+     * Removes the value at the given position, shifting later values down by one.
+     *
+     * @param index Position to remove.
+     * @return The removed value.
+     */
+    public long removeAt(int index) {
+        checkIndex(index);
+        long removed = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * @param value Value to look for.
+     * @return Position of the first occurrence of the value, or -1 if it is absent.
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value Value to look for.
+     * @return True if the value is in the list.
+     */
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Removes every value, keeping the backing array for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Makes sure the list can hold at least minCapacity values without growing again.
+     *
+     * @param minCapacity Required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            int newCapacity = Math.max(values.length + (values.length >> 1), minCapacity);
+            values = Arrays.copyOf(values, Math.max(newCapacity, DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < values.length) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * @return A new array holding the values in order.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,41 @@
+package util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the LongList methods, with values that do not fit in an int.
+ */
+public class LongListTest {
+    /**
+     * Verifies add, set, indexOf and removeAt with values above and below the int range.
+     */
+    @Test
+    public void testWideValues() {
+        LongList list = new LongList();
+        long big = (long) Integer.MAX_VALUE + 7;
+        for (int i = 0; i < 100; i++) {
+            list.add(big * i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(big * 42, list.get(42));
+        assertEquals(42, list.indexOf(big * 42));
+        assertEquals(-1, list.indexOf(42));
+        list.set(0, Long.MIN_VALUE);
+        assertTrue(list.contains(Long.MIN_VALUE));
+        assertEquals(big, list.removeAt(1));
+        assertEquals(99, list.size());
+        assertEquals(big * 2, list.get(1));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Verifies that a negative capacity is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new LongList(-1);
+    }
+}
@@ -0,0 +1,422 @@
+package util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Represents an immutable list that shares structure between versions. Every change returns a
+ * new list and leaves the old one untouched, so keeping a reference to a list is an O(1)
+ * snapshot: readers can walk a frozen version while writers keep producing new ones.
+ *
+ * Elements live in a tree of 32-slot arrays plus a tail array for the last partial block.
+ * add and set copy only the path from the root to one leaf, O(log32 n), and get reads one
+ * leaf. Removing from the middle rebuilds the list in O(n), the same order as shifting an array.
+ *
+ * @param <E> Type of elements in the list.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;     // Bit shift of the root level; leaves are at shift 0.
+    private final Object[] root; // Tree holding every element before the tail.
+    private final Object[] tail; // Last 1 to 32 elements, kept outside the tree for cheap appends.
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Gets the empty list.
+     *
+     * @param <E> Type of elements in the list.
+     * @return The shared empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * @return Number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the list holds no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index Position to read.
+     * @return The element at the given position.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a new list with the element appended; this list is unchanged.
+     *
+     * @param e Element to append.
+     * @return The new list.
+     */
+    public PersistentList<E> add(E e) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        // The tail is full: move it into the tree and start a new tail.
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH]; // The tree is full too, so it gains a level.
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{e});
+    }
+
+    /**
+     * Returns a new list with the element at a position replaced; this list is unchanged.
+     *
+     * @param index Position to replace.
+     * @param e New element.
+     * @return The new list.
+     */
+    public PersistentList<E> set(int index, E e) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = e;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, setInTree(shift, root, index, e), tail);
+    }
+
+    /**
+     * Returns a new list without the element at a position; this list is unchanged.
+     *
+     * @param index Position to remove.
+     * @return The new list.
+     */
+    public PersistentList<E> removeAt(int index) {
+        checkIndex(index);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Object[] elements = new Object[size - 1];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                elements[count++] = leafFor(i)[i & MASK];
+            }
+        }
+        return build(elements);
+    }
+
+    /**
+     * Returns a new list without the last element; this list is unchanged. Like add, this copies
+     * only the path to one leaf, O(log32 n).
+     *
+     * @return The new list.
+     * @throws IndexOutOfBoundsException If the list is empty.
+     */
+    public PersistentList<E> removeLast() {
+        checkIndex(size - 1);
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        // The tail held only the last element: the last leaf of the tree becomes the tail.
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        } else if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0]; // Only one child is left, so the tree loses a level.
+            newShift -= BITS;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a new list without the first element equal to the given one.
+     *
+     * @param e Element to remove.
+     * @return The new list, or this list if no element is equal.
+     */
+    public PersistentList<E> remove(E e) {
+        int index = indexOf(e);
+        return index == -1 ? this : removeAt(index);
+    }
+
+    /**
+     * @param e Element to look for.
+     * @return Position of the first equal element, or -1 if there is none.
+     */
+    public int indexOf(E e) {
+        for (int i = 0; i < size; i++) {
+            if (get(i).equals(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param e Element to look for.
+     * @return True if an equal element is in the list.
+     */
+    public boolean contains(E e) {
+        return indexOf(e) != -1;
+    }
+
+    /**
+     * Creates an iterator over this version of the list; later versions do not affect it.
+     *
+     * @return Iterator in index order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements in the list.");
+                }
+                return get(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Creates a sized spliterator that splits in halves, so parallel streams can share the work.
+     *
+     * @return Spliterator over this version of the list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new RangeSpliterator(0, size);
+    }
+
+    /**
+     * @return Sequential stream over the elements, in index order.
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return Parallel stream over the elements.
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * @return Index of the first element held in the tail rather than the tree.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Finds the 32-slot array that holds the element at a position.
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Copies the path to the next free leaf position and hangs the full tail there.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] existing = (Object[]) parent[child];
+            inserted = existing != null ? pushTail(level - BITS, existing, tailNode) : newPath(level - BITS, tailNode);
+        }
+        copy[child] = inserted;
+        return copy;
+    }
+
+    /**
+     * Copies the path to the last leaf of the tree without that leaf.
+     *
+     * @return The copied node, or null if the node held nothing but the removed leaf.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int child = ((size - 2) >>> level) & MASK;
+        Object[] newChild = null;
+        if (level > BITS) {
+            newChild = popTail(level - BITS, (Object[]) node[child]);
+        }
+        if (newChild == null && child == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[child] = newChild;
+        return copy;
+    }
+
+    /**
+     * Builds a chain of single-child nodes from the given level down to a leaf.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Copies the path to a leaf, replacing one element in the copied leaf.
+     */
+    private static Object[] setInTree(int level, Object[] node, int index, Object e) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = e;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = setInTree(level - BITS, (Object[]) node[child], index, e);
+        }
+        return copy;
+    }
+
+    /**
+     * Builds a list holding the given elements in one pass, filling leaves and then each level above.
+     */
+    private static <E> PersistentList<E> build(Object[] elements) {
+        int count = elements.length;
+        if (count == 0) {
+            return empty();
+        }
+        int treeCount = count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+        Object[] tail = Arrays.copyOfRange(elements, treeCount, count);
+        Object[][] nodes = new Object[treeCount >>> BITS][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH) {
+            Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = new Object[WIDTH];
+                int from = i << BITS;
+                System.arraycopy(nodes, from, parents[i], 0, Math.min(WIDTH, nodes.length - from));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        Object[] root = new Object[WIDTH];
+        System.arraycopy(nodes, 0, root, 0, nodes.length);
+        return new PersistentList<>(count, shift, root, tail);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+    }
+
+    /**
+     * Spliterator over a range of positions in this version of the list.
+     */
+    private class RangeSpliterator implements Spliterator<E> {
+        private int index;
+        private final int fence;
+
+        private RangeSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (index >= mid) {
+                return null;
+            }
+            Spliterator<E> prefix = new RangeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            while (index < fence) {
+                Object[] leaf = leafFor(index); // Visit a whole leaf per tree walk.
+                int end = Math.min(fence, (index | MASK) + 1);
+                for (; index < end; index++) {
+                    action.accept((E) leaf[index & MASK]);
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
+}
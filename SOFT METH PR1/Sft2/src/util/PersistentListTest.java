@@ -0,0 +1,138 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that every PersistentList version keeps its own contents while later versions change.
+ */
+public class PersistentListTest {
+    /**
+     * Builds a list holding 0 to count - 1, in order.
+     */
+    private static PersistentList<Integer> rangeOf(int count) {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < count; i++) {
+            list = list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Appends past several tree levels and verifies every position reads back.
+     */
+    @Test
+    public void testAddAcrossLevels() {
+        int count = 40_000; // Needs three levels of 32-slot nodes above the leaves.
+        PersistentList<Integer> list = rangeOf(count);
+        assertEquals(count, list.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+    }
+
+    /**
+     * Verifies that a kept version is unaffected by later adds, sets and removes.
+     */
+    @Test
+    public void testSnapshotUnchanged() {
+        PersistentList<Integer> snapshot = rangeOf(100);
+        PersistentList<Integer> next = snapshot.add(100).set(5, -5).removeAt(0);
+        assertEquals(100, snapshot.size());
+        assertEquals(5, (int) snapshot.get(5));
+        assertEquals(0, (int) snapshot.get(0));
+        assertEquals(100, next.size());
+        assertEquals(-5, (int) next.get(4));
+        assertEquals(100, (int) next.get(99));
+    }
+
+    /**
+     * Applies random adds, sets and removes and compares every version with an ArrayList.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(7);
+        ArrayList<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int step = 0; step < 5_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                expected.add(step);
+                list = list.add(step);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                list = list.set(index, -step);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.removeAt(index);
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Removes by value and verifies that a missing value leaves the same list.
+     */
+    @Test
+    public void testRemoveByValue() {
+        PersistentList<String> list = PersistentList.<String>empty().add("a").add("b").add("c");
+        PersistentList<String> removed = list.remove("b");
+        assertEquals(2, removed.size());
+        assertEquals("c", removed.get(1));
+        assertFalse(removed.contains("b"));
+        assertSame(removed, removed.remove("z"));
+    }
+
+    /**
+     * Shrinks a list that spans three tree levels one element at a time, checking the ends
+     * and the level boundaries, then grows it again from a shrunken version.
+     */
+    @Test
+    public void testRemoveLastAcrossLevels() {
+        PersistentList<Integer> full = rangeOf(40_000);
+        PersistentList<Integer> list = full;
+        for (int size = 40_000; size > 0; size--) {
+            list = list.removeLast();
+            assertEquals(size - 1, list.size());
+            if (size - 1 > 0 && (size % 1024 <= 1 || size % 32 == 0 || size <= 70)) {
+                assertEquals(size - 2, (int) list.get(size - 2));
+                assertEquals(0, (int) list.get(0));
+                assertEquals((size - 1) / 2, (int) list.get((size - 1) / 2));
+            }
+            if (size == 1025) {
+                PersistentList<Integer> regrown = list;
+                for (int i = 1024; i < 1100; i++) {
+                    regrown = regrown.add(i);
+                }
+                for (int i = 0; i < 1100; i++) {
+                    assertEquals(i, (int) regrown.get(i));
+                }
+            }
+        }
+        assertTrue(list.isEmpty());
+        assertEquals(39_999, (int) full.get(39_999));
+        assertEquals(40_000, full.size());
+    }
+
+    /**
+     * Verifies that sequential and parallel streams visit every element in order.
+     */
+    @Test
+    public void testStreams() {
+        PersistentList<Integer> list = rangeOf(5_000);
+        assertEquals(rangeOf(5_000).stream().collect(Collectors.toList()),
+                list.parallelStream().collect(Collectors.toList()));
+        assertEquals(5_000L * 4_999 / 2, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(0, PersistentList.<Integer>empty().stream().count());
+    }
+}
@@ -0,0 +1,279 @@
+package util;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Represents a list kept permanently in comparator order, backed by an indexable skip list.
+ * Adding and removing an element take O(log n) comparisons, reading the element at a position
+ * takes O(log n), and walking the list in order costs O(1) per element, so an ordered listing
+ * never needs a sort. Elements that compare as equal stay in the order they were added.
+ *
+ * @param <E> Type of elements in the list.
+ */
+public class SkipList<E> implements Iterable<E> {
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super E> comparator;
+    private final Node<E> head; // Sentinel before the first element; it holds no value.
+    private final Random random;
+    private int level; // Number of levels currently in use.
+    private int size;
+
+    /**
+     * A skip list node. For each level it links to the next node on that level and records
+     * the width of the link, which is how many positions the link skips over.
+     */
+    private static class Node<E> {
+        private final E value;
+        private final Node<E>[] next;
+        private final int[] width;
+
+        private Node(E value, int levels) {
+            this.value = value;
+            this.next = newNodeArray(levels);
+            this.width = new int[levels];
+        }
+    }
+
+    /**
+     * Creates an empty list ordered by the given comparator.
+     *
+     * @param comparator Ordering of the list.
+     */
+    public SkipList(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.head = new Node<>(null, MAX_LEVEL);
+        this.random = new Random();
+        this.level = 1;
+    }
+
+    /**
+     * @return Number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the list holds no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts an element at its ordered position, after any elements that compare equal to it.
+     *
+     * @param e Element to insert.
+     */
+    public void add(E e) {
+        Node<E>[] update = newNodeArray(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL]; // Position reached on each level, counting the head as 0.
+        Node<E> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && comparator.compare(x.next[i].value, e) <= 0) {
+                rank[i] += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int levels = randomLevel();
+        if (levels > level) {
+            for (int i = level; i < levels; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.width[i] = size;
+            }
+            level = levels;
+        }
+        Node<E> node = new Node<>(e, levels);
+        for (int i = 0; i < levels; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = levels; i < level; i++) {
+            update[i].width[i]++; // Higher links now skip over one more element.
+        }
+        size++;
+    }
+
+    /**
+     * Removes the first element that compares equal to the given one and is equal to it.
+     *
+     * @param e Element to remove.
+     * @return True if the element was found and removed.
+     */
+    public boolean remove(E e) {
+        Node<E>[] update = newNodeArray(MAX_LEVEL);
+        Node<E> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, e) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        // Walk the run of elements that compare equal until the matching one is found.
+        Node<E> candidate = x.next[0];
+        while (candidate != null && comparator.compare(candidate.value, e) == 0) {
+            if (candidate.value == e || candidate.value.equals(e)) {
+                unlink(candidate, update);
+                return true;
+            }
+            for (int i = 0; i < candidate.next.length; i++) {
+                update[i] = candidate; // Passed nodes become the predecessors on their levels.
+            }
+            candidate = candidate.next[0];
+        }
+        return false;
+    }
+
+    /**
+     * Reads the element at a position in comparator order.
+     *
+     * @param index Position to read, starting at 0.
+     * @return The element at that position.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+        return nodeAt(index + 1).value;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.width[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Creates an iterator over the elements in comparator order.
+     *
+     * @return Iterator starting at the first element.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SkipListIterator(head.next[0]);
+    }
+
+    /**
+     * Creates an iterator over the elements in comparator order, starting at a position.
+     * Finding the starting position takes O(log n), so a page of k elements costs O(log n + k).
+     *
+     * @param from Position of the first element to visit.
+     * @return Iterator starting at the given position.
+     */
+    public Iterator<E> iterator(int from) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + from);
+        }
+        return new SkipListIterator(from >= size ? null : nodeAt(from + 1));
+    }
+
+    /**
+     * Writes each element on its own line, in comparator order.
+     *
+     * @param out Destination for the lines.
+     * @throws IOException if the destination cannot be written.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        for (Node<E> x = head.next[0]; x != null; x = x.next[0]) {
+            out.append(String.valueOf(x.value)).append('\n');
+        }
+    }
+
+    /**
+     * Finds the node at a position, where the head is position 0 and the first element is 1.
+     */
+    private Node<E> nodeAt(int rank) {
+        Node<E> x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.width[i] <= rank) {
+                traversed += x.width[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        throw new IllegalStateException("Skip list widths are inconsistent.");
+    }
+
+    /**
+     * Creates an array of nodes. Generic arrays cannot be created directly, so an array of
+     * wildcard nodes is cast; it only ever holds nodes of one element type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E>[] newNodeArray(int length) {
+        return (Node<E>[]) new Node<?>[length];
+    }
+
+    /**
+     * Unlinks a node given its predecessor on every level, fixing the link widths.
+     */
+    private void unlink(Node<E> node, Node<E>[] update) {
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].width[i] += node.width[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    /**
+     * Picks a level for a new node, where each extra level has a one in four chance.
+     */
+    private int randomLevel() {
+        int levels = 1;
+        while (levels < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Iterator that follows the bottom level of links.
+     */
+    private class SkipListIterator implements Iterator<E> {
+        private Node<E> current;
+
+        private SkipListIterator(Node<E> start) {
+            current = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public E next() {
+            if (current == null) {
+                throw new NoSuchElementException("No more elements in the list.");
+            }
+            E value = current.value;
+            current = current.next[0];
+            return value;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the SkipList stays in comparator order, keeps ties in insertion order,
+ * and answers positional reads correctly as elements come and go.
+ */
+public class SkipListTest {
+    // Orders strings by their first character only, so different strings can tie.
+    private static final Comparator<String> BY_FIRST_CHAR = Comparator.comparing(s -> s.charAt(0));
+
+    /**
+     * Inserts into a sorted ArrayList the same way a stable sort would place the element.
+     */
+    private static void insertStable(ArrayList<String> model, String s) {
+        int i = 0;
+        while (i < model.size() && BY_FIRST_CHAR.compare(model.get(i), s) <= 0) {
+            i++;
+        }
+        model.add(i, s);
+    }
+
+    /**
+     * Runs random adds and removes and compares order, positional reads and paging to a model.
+     */
+    @Test
+    public void testRandomOperationsMatchModel() {
+        SkipList<String> list = new SkipList<>(BY_FIRST_CHAR);
+        ArrayList<String> model = new ArrayList<>();
+        Random random = new Random(12);
+        for (int step = 0; step < 3000; step++) {
+            if (!model.isEmpty() && random.nextInt(3) == 0) {
+                String victim = model.get(random.nextInt(model.size()));
+                assertTrue(list.remove(victim));
+                model.remove(victim);
+            } else {
+                String s = (char) ('a' + random.nextInt(6)) + Integer.toString(step);
+                list.add(s);
+                insertStable(model, s);
+            }
+            assertEquals(model.size(), list.size());
+        }
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(model.get(i), list.get(i));
+        }
+        int from = model.size() / 2;
+        Iterator<String> page = list.iterator(from);
+        for (int i = from; i < model.size(); i++) {
+            assertEquals(model.get(i), page.next());
+        }
+        assertFalse(page.hasNext());
+    }
+
+    /**
+     * Verifies that removing an element that is not present leaves the list unchanged.
+     */
+    @Test
+    public void testRemoveMissing() {
+        SkipList<String> list = new SkipList<>(BY_FIRST_CHAR);
+        list.add("apple");
+        assertFalse(list.remove("avocado"));
+        assertFalse(list.remove("banana"));
+        assertEquals(1, list.size());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+}
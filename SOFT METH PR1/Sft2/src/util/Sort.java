@@ -2,13 +2,41 @@ package util;
 
 
 import p2.Appointment;
+import p2.Location;
+import p2.Profile;
 import p2.Provider;
+import p2.Timeslot;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * Provides all sorting functionality for other classes.
  * The Sort class includes methods for sorting lists of providers and appointments based on different criteria.
  */
 public class Sort {
+    // Ranges this short are insertion sorted instead of split further
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    // Lists at least this long are merge sorted, or radix sorted by key, across the fork-join pool
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    // Appointment lists at least this long are sorted by packed keys; shorter ones are cheaper to bucket or merge sort
+    private static final int KEY_SORT_THRESHOLD = 1 << 16;
+    // Lists at least this long go through the bucket sort when their ordering starts with county, date and time
+    private static final int BUCKET_SORT_THRESHOLD = 64;
+    // The bucket sort gives up when it would need more buckets than this or four per appointment
+    private static final int MIN_BUCKET_LIMIT = 1 << 16;
+    // Rank of each location's county among all counties, indexed by Location ordinal
+    private static final int[] COUNTY_RANK = countyRanks();
+    private static final int COUNTY_COUNT = countyCount();
+    // The packed keys are radix sorted one byte at a time
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
 
     /**
      * Enum representing sorting keys.
@@ -20,26 +48,6 @@ public class Sort {
         APPOINTMENT_SORTING // Sort by appointment details.
     }
 
-    /**
-     * Sorts the list array based on provider profiles, using insertion sort.
-     * This sorts a list of Providers by their profile information.
-     *
-     * @param providers List to be sorted.
-     */
-    private static void sort(List<Provider> providers) {
-        for (int i = 1; i < providers.size(); i++) {
-            Provider appKey = providers.get(i);
-            int j = i - 1;
-            // Shift elements that are greater than appKey to one position ahead of their current position.
-            while (j >= 0 && compareProvider(appKey, providers.get(j)) < 0) {
-                providers.set(j + 1, providers.get(j));
-                j--;
-            }
-            // Place appKey in the correct position.
-            providers.set(j + 1, appKey);
-        }
-    }
-
     /**
      * Compares two patients by their last name, first name, dob, and appointment details.
      * This method helps in sorting patients.
@@ -91,40 +99,560 @@ public class Sort {
     }
 
     /**
-     * Sorts the list array based on one of the sorting factors, using insertion sort.
-     * It can sort based on patient details, appointment time, or location.
+     * Sorts the list array based on one of the sorting factors. Every path gives the same
+     * stable order; the list size and the ordering decide which one runs:
+     * - 65536 or more appointments: the packed-key radix sort, whose passes are split across
+     *   the common fork-join pool.
+     * - 64 or more, ordered by date/time or by county: the bucket sort, one counting pass.
+     * - Anything else, or when those two give up: the merge sort, which is split across the
+     *   pool from 8192 elements. By patient that covers 8192 to 65535 appointments; by date/time
+     *   or county, lists whose dates are too spread out for the bucket sort.
      *
      * @param appointments List to be sorted.
      * @param compare Key identifying the particular sort.
      */
     private static void sort(List<Appointment> appointments, SortType compare) {
-        for (int i = 1; i < appointments.size(); i++) {
-            Appointment appKey = appointments.get(i);
+        int size = appointments.size();
+        if (size >= KEY_SORT_THRESHOLD && keySort(appointments, compare)) {
+            return;
+        }
+        if (size >= BUCKET_SORT_THRESHOLD && compare != SortType.PATIENT_SORTING && bucketSort(appointments, compare)) {
+            return;
+        }
+        list(appointments, comparator(compare));
+    }
+
+    /**
+     * Sorts appointments with a counting sort on (county, day, timeslot) buckets, for the two
+     * orderings that start with those fields. Bookable days span six months and there are twelve
+     * timeslots, so there are only a few thousand buckets; days and timeslots that no appointment
+     * uses are squeezed out before counting. Appointments in the same bucket are then ordered by
+     * the comparator, which only has providers and patients left to compare. The whole sort is
+     * O(n + buckets) plus the small per-bucket sorts, and is stable like the merge sort.
+     *
+     * @param appointments List to be sorted.
+     * @param compare APPOINTMENT_SORTING or LOCATION_SORTING.
+     * @return False if the dates or timeslots span too many buckets; the list is then unchanged.
+     */
+    private static boolean bucketSort(List<Appointment> appointments, SortType compare) {
+        Object[] elements = appointments.backingArray(); // Erased to Object[] at run time.
+        int size = appointments.size();
+        int maxBuckets = Math.max(MIN_BUCKET_LIMIT, size << 2);
+        int[] days = new int[size];
+        int[] slots = new int[size];
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        int minSlot = Integer.MAX_VALUE;
+        int maxSlot = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Appointment appointment = (Appointment) elements[i];
+            days[i] = appointment.getDate().toPackedInt(); // Orders the same way as Date.compareTo
+            if (days[i] == Date.UNPACKED) {
+                return false; // The date is too far out to pack, so there is no day key for it.
+            }
+            slots[i] = appointment.getTimeslot().getSlot();
+            minDay = Math.min(minDay, days[i]);
+            maxDay = Math.max(maxDay, days[i]);
+            minSlot = Math.min(minSlot, slots[i]);
+            maxSlot = Math.max(maxSlot, slots[i]);
+        }
+        if ((long) maxDay - minDay >= maxBuckets) {
+            return false;
+        }
+        int[] dayIds = denseIds(days, minDay, maxDay);
+        int[] slotIds = denseIds(slots, minSlot, maxSlot);
+        int dayCount = dayIds[maxDay - minDay] + 1;
+        int slotCount = slotIds[maxSlot - minSlot] + 1;
+        int countyCount = compare == SortType.LOCATION_SORTING ? COUNTY_COUNT : 1;
+        long bucketCount = (long) countyCount * dayCount * slotCount;
+        if (bucketCount > maxBuckets) {
+            return false;
+        }
+        int[] buckets = new int[size];
+        for (int i = 0; i < size; i++) {
+            int county = compare == SortType.LOCATION_SORTING
+                    ? COUNTY_RANK[((Provider) ((Appointment) elements[i]).getProvider()).getLocation().ordinal()] : 0;
+            buckets[i] = (county * dayCount + dayIds[days[i] - minDay]) * slotCount + slotIds[slots[i] - minSlot];
+        }
+        int[] starts = new int[(int) bucketCount + 1];
+        for (int bucket : buckets) {
+            starts[bucket + 1]++;
+        }
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            starts[bucket + 1] += starts[bucket];
+        }
+        Object[] original = Arrays.copyOf(elements, size);
+        int[] next = Arrays.copyOf(starts, starts.length - 1);
+        for (int i = 0; i < size; i++) {
+            elements[next[buckets[i]]++] = original[i];
+        }
+        sortRuns(appointments, starts, comparator(compare));
+        appointments.reordered();
+        return true;
+    }
+
+    /**
+     * Merge sorts each run of a list that holds more than one element.
+     *
+     * @param list List whose runs are sorted.
+     * @param starts Start index of each run, followed by the list size.
+     * @param comparator Ordering within a run.
+     * @param <T> Type of elements in the list.
+     */
+    private static <T> void sortRuns(List<T> list, int[] starts, Comparator<? super T> comparator) {
+        T[] elements = list.backingArray();
+        T[] buffer = null;
+        for (int run = 0; run + 1 < starts.length; run++) {
+            if (starts[run + 1] - starts[run] > 1) {
+                if (buffer == null) {
+                    buffer = Arrays.copyOf(elements, list.size());
+                }
+                mergeSort(elements, buffer, starts[run], starts[run + 1], comparator);
+            }
+        }
+    }
+
+    /**
+     * Numbers the distinct values in a small range densely, in increasing order, with a
+     * counting pass instead of a sort.
+     *
+     * @param values Values to number; all lie between min and max.
+     * @param min Smallest value.
+     * @param max Largest value.
+     * @return Dense id of each value in the range, indexed by value - min.
+     */
+    private static int[] denseIds(int[] values, int min, int max) {
+        int[] ids = new int[max - min + 1];
+        for (int value : values) {
+            ids[value - min] = 1;
+        }
+        int next = 0;
+        for (int i = 0; i < ids.length; i++) {
+            int used = ids[i];
+            ids[i] = next - (used == 0 ? 1 : 0); // Unused values share the id of the value below.
+            next += used;
+        }
+        return ids;
+    }
+
+    /**
+     * Sorts appointments by a packed 64-bit key instead of calling the comparator. Every field
+     * the comparator looks at (county, date, timeslot, and the last name, first name and date of
+     * birth of the provider and the patient) is replaced by its dense rank among the values in
+     * the list, and the ranks are packed most significant first. A stable radix sort of the keys
+     * then gives exactly the comparator order, ties included, with no object comparisons.
+     *
+     * @param appointments List to be sorted.
+     * @param compare Key identifying the particular sort.
+     * @return False if the ranks do not fit in 64 bits; the list is then unchanged.
+     */
+    private static boolean keySort(List<Appointment> appointments, SortType compare) {
+        Object[] elements = appointments.backingArray(); // Erased to Object[] at run time.
+        int size = appointments.size();
+        Ranking[] fields = fieldRankings(elements, size, compare);
+        int totalBits = 0;
+        for (Ranking field : fields) {
+            totalBits += field.bits;
+        }
+        if (totalBits > Long.SIZE) {
+            return false;
+        }
+        long[] keys = new long[size];
+        for (Ranking field : fields) {
+            for (int i = 0; i < size; i++) {
+                keys[i] = (keys[i] << field.bits) | field.ranks[i];
+            }
+        }
+        int[] order = radixSort(keys, totalBits);
+        Object[] original = Arrays.copyOf(elements, size);
+        for (int i = 0; i < size; i++) {
+            elements[i] = original[order[i]];
+        }
+        appointments.reordered();
+        return true;
+    }
+
+    /**
+     * Ranks the fields each ordering compares, most significant first. Profile.compareTo is
+     * last name and first name ignoring case, then date of birth, so a profile is ranked as
+     * those three parts; only the distinct names and dates ever get compared.
+     *
+     * @param elements Appointments being sorted.
+     * @param size Number of appointments.
+     * @param compare Key identifying the particular sort.
+     * @return Rankings in the order the comparator consults the fields.
+     */
+    private static Ranking[] fieldRankings(Object[] elements, int size, SortType compare) {
+        Ranking date = rank(elements, size, Appointment::getDate, Date::compareTo);
+        Ranking timeslot = rank(elements, size, Appointment::getTimeslot, Timeslot::compareTo);
+        Ranking[] provider = profileRankings(elements, size, appointment -> appointment.getProvider().getProfile());
+        Ranking[] patient = profileRankings(elements, size, appointment -> appointment.getPatient().getProfile());
+        switch (compare) {
+            case PATIENT_SORTING:
+                return new Ranking[]{patient[0], patient[1], patient[2], date, timeslot, provider[0], provider[1], provider[2]};
+            case LOCATION_SORTING:
+                Ranking county = rank(elements, size,
+                        appointment -> ((Provider) appointment.getProvider()).getLocation().getCounty(), String::compareTo);
+                return new Ranking[]{county, date, timeslot, provider[0], provider[1], provider[2],
+                        patient[0], patient[1], patient[2]};
+            default:
+                return new Ranking[]{date, timeslot, provider[0], provider[1], provider[2], patient[0], patient[1], patient[2]};
+        }
+    }
+
+    /**
+     * Ranks the last name, first name and date of birth of one profile of every appointment.
+     *
+     * @param elements Appointments being sorted.
+     * @param size Number of appointments.
+     * @param profile Reads the profile from an appointment.
+     * @return Rankings of the last name, first name and date of birth, in that order.
+     */
+    private static Ranking[] profileRankings(Object[] elements, int size, Function<Appointment, Profile> profile) {
+        return new Ranking[]{
+                rank(elements, size, appointment -> profile.apply(appointment).getLname(), String::compareToIgnoreCase),
+                rank(elements, size, appointment -> profile.apply(appointment).getFname(), String::compareToIgnoreCase),
+                rank(elements, size, appointment -> profile.apply(appointment).getDob(), Date::compareTo)
+        };
+    }
+
+    /**
+     * Orders keys with a stable least-significant-digit radix sort, one byte per pass.
+     * Passes where every key has the same byte are skipped. From PARALLEL_THRESHOLD keys on,
+     * each pass is split into one chunk per worker of the common fork-join pool: the chunks
+     * count their digits in parallel, the counts are turned into a start position per digit
+     * and chunk, and the chunks then scatter in parallel. Chunk order is kept within each
+     * digit, so the result is the same as the single-chunk sort.
+     *
+     * @param keys Keys to order; they are left in sorted order.
+     * @param bits Number of low bits in use.
+     * @return Original position of the key now at each position.
+     */
+    private static int[] radixSort(long[] keys, int bits) {
+        int size = keys.length;
+        int chunks = size >= PARALLEL_THRESHOLD ? Math.max(1, ForkJoinPool.getCommonPoolParallelism()) : 1;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        long[] nextKeys = new long[size];
+        int[] nextOrder = new int[size];
+        int[][] counts = new int[chunks][RADIX];
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            int passShift = shift;
+            long[] from = keys;
+            eachChunk(chunks, size, (chunk, start, end) -> {
+                int[] chunkCounts = counts[chunk];
+                Arrays.fill(chunkCounts, 0);
+                for (int i = start; i < end; i++) {
+                    chunkCounts[(int) (from[i] >>> passShift) & (RADIX - 1)]++;
+                }
+            });
+            int firstDigit = (int) (keys[0] >>> shift) & (RADIX - 1);
+            int sameDigit = 0;
+            for (int[] chunkCounts : counts) {
+                sameDigit += chunkCounts[firstDigit];
+            }
+            if (sameDigit == size) {
+                continue; // Every key has the same digit here.
+            }
+            int total = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                for (int[] chunkCounts : counts) {
+                    int count = chunkCounts[digit];
+                    chunkCounts[digit] = total;
+                    total += count;
+                }
+            }
+            int[] fromOrder = order;
+            long[] toKeys = nextKeys;
+            int[] toOrder = nextOrder;
+            eachChunk(chunks, size, (chunk, start, end) -> {
+                int[] next = counts[chunk];
+                for (int i = start; i < end; i++) {
+                    int target = next[(int) (from[i] >>> passShift) & (RADIX - 1)]++;
+                    toKeys[target] = from[i];
+                    toOrder[target] = fromOrder[i];
+                }
+            });
+            nextKeys = keys;
+            keys = toKeys;
+            nextOrder = order;
+            order = toOrder;
+        }
+        return order;
+    }
+
+    /**
+     * A piece of work over the range [start, end) of chunk number chunk.
+     */
+    private interface ChunkWork {
+        void run(int chunk, int start, int end);
+    }
+
+    /**
+     * Splits [0, size) into equal chunks and runs the work on each, in the common fork-join pool
+     * when there is more than one chunk.
+     *
+     * @param chunks Number of chunks.
+     * @param size Length of the range being split.
+     * @param work Work to run on each chunk.
+     */
+    private static void eachChunk(int chunks, int size, ChunkWork work) {
+        if (chunks == 1) {
+            work.run(0, 0, size);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(chunk ->
+                work.run(chunk, (int) ((long) size * chunk / chunks), (int) ((long) size * (chunk + 1) / chunks)));
+    }
+
+    /**
+     * Replaces one field of every appointment with its dense rank: distinct values are found
+     * with a hash map, only those are sorted, and values that compare as equal share a rank.
+     *
+     * @param elements Appointments being sorted.
+     * @param size Number of appointments.
+     * @param field Reads the field from an appointment.
+     * @param order Ordering of the field.
+     * @param <K> Type of the field.
+     * @return Rank of each appointment's field and the number of bits the ranks need.
+     */
+    private static <K> Ranking rank(Object[] elements, int size, Function<Appointment, K> field,
+                                    Comparator<? super K> order) {
+        HashMap<K, Integer> ids = new HashMap<>();
+        List<K> distinct = new List<>();
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            K value = field.apply((Appointment) elements[i]);
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = distinct.size();
+                ids.put(value, id);
+                distinct.add(value);
+            }
+            ranks[i] = id;
+        }
+        list(distinct, order);
+        int[] idToRank = new int[distinct.size()];
+        int rank = 0;
+        for (int i = 0; i < distinct.size(); i++) {
+            if (i > 0 && order.compare(distinct.get(i - 1), distinct.get(i)) != 0) {
+                rank++;
+            }
+            idToRank[ids.get(distinct.get(i))] = rank;
+        }
+        for (int i = 0; i < size; i++) {
+            ranks[i] = idToRank[ranks[i]];
+        }
+        return new Ranking(ranks, bitsFor(rank + 1));
+    }
+
+    /**
+     * Ranks each location by its county name, the way compareLocation orders them; locations
+     * in the same county share a rank.
+     *
+     * @return County rank of each location, indexed by Location ordinal.
+     */
+    private static int[] countyRanks() {
+        Location[] locations = Location.values();
+        int[] ranks = new int[locations.length];
+        for (int i = 0; i < locations.length; i++) {
+            String county = locations[i].getCounty();
+            List<String> smaller = new List<>();
+            for (Location other : locations) {
+                if (other.getCounty().compareTo(county) < 0 && !smaller.contains(other.getCounty())) {
+                    smaller.add(other.getCounty());
+                }
+            }
+            ranks[i] = smaller.size();
+        }
+        return ranks;
+    }
+
+    /**
+     * @return Number of distinct counties among the locations.
+     */
+    private static int countyCount() {
+        int max = 0;
+        for (int rank : COUNTY_RANK) {
+            max = Math.max(max, rank);
+        }
+        return max + 1;
+    }
+
+    /**
+     * @param count Number of distinct values to encode.
+     * @return Number of bits needed to store the values 0 to count - 1.
+     */
+    private static int bitsFor(int count) {
+        return count <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    /**
+     * Dense ranks of one field for every appointment, and the bits needed to store them.
+     */
+    private static class Ranking {
+        private final int[] ranks;
+        private final int bits;
+
+        private Ranking(int[] ranks, int bits) {
+            this.ranks = ranks;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * Sorts a list in place with a stable merge sort, O(n log n) comparisons. Elements that
+     * compare as equal keep their relative order, so the result is the same as the insertion
+     * sort this class used before. Lists of 8192 or more elements are split across the common
+     * fork-join pool.
+     *
+     * @param list List to be sorted.
+     * @param comparator Ordering to sort by.
+     * @param <T> Type of elements in the list.
+     */
+    public static <T> void list(List<T> list, Comparator<? super T> comparator) {
+        list(list, comparator, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts a list in place with the stable merge sort, choosing the list size at which it
+     * switches to the parallel merge sort. Both give exactly the same order; only the running
+     * time differs, which is what tests and benchmarks vary this for.
+     *
+     * @param list List to be sorted.
+     * @param comparator Ordering to sort by.
+     * @param parallelThreshold Smallest list size sorted in parallel; at least 2.
+     * @param <T> Type of elements in the list.
+     */
+    public static <T> void list(List<T> list, Comparator<? super T> comparator, int parallelThreshold) {
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("Parallel sort threshold must be at least 2: " + parallelThreshold);
+        }
+        int size = list.size();
+        if (size < 2) {
+            return;
+        }
+        T[] elements = list.backingArray();
+        T[] buffer = Arrays.copyOf(elements, size);
+        if (size >= parallelThreshold) {
+            // Leave about four tasks per worker so that uneven ranges still balance out.
+            int granularity = Math.max(INSERTION_SORT_THRESHOLD, size / (ForkJoinPool.getCommonPoolParallelism() << 2));
+            ForkJoinPool.commonPool().invoke(new MergeSortTask<>(elements, buffer, 0, size, comparator, granularity));
+        } else {
+            mergeSort(elements, buffer, 0, size, comparator);
+        }
+        list.reordered();
+    }
+
+    /**
+     * Fork-join task that sorts both halves of a range in parallel and then merges them.
+     * Ranges no longer than the granularity are sorted sequentially. Every task touches only
+     * its own range of the array and the buffer, so no locking is needed, and the merge is the
+     * same stable merge the sequential sort uses, so the result is identical.
+     *
+     * @param <T> Type of elements being sorted.
+     */
+    private static class MergeSortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] elements;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> comparator;
+        private final int granularity;
+
+        private MergeSortTask(T[] elements, T[] buffer, int from, int to, Comparator<? super T> comparator, int granularity) {
+            this.elements = elements;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= granularity) {
+                mergeSort(elements, buffer, from, to, comparator);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortTask<>(elements, buffer, from, mid, comparator, granularity),
+                    new MergeSortTask<>(elements, buffer, mid, to, comparator, granularity));
+            merge(elements, buffer, from, mid, to, comparator);
+        }
+    }
+
+    /**
+     * Sorts elements[from, to) recursively, using insertion sort for short ranges.
+     *
+     * @param elements Array being sorted.
+     * @param buffer Scratch array at least as long as the range; positions match elements.
+     * @param from First index to sort (inclusive).
+     * @param to Last index to sort (exclusive).
+     * @param comparator Ordering to sort by.
+     */
+    private static <T> void mergeSort(T[] elements, T[] buffer, int from, int to, Comparator<? super T> comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(elements, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(elements, buffer, from, mid, comparator);
+        mergeSort(elements, buffer, mid, to, comparator);
+        merge(elements, buffer, from, mid, to, comparator);
+    }
+
+    /**
+     * Merges the sorted runs elements[from, mid) and elements[mid, to). The left run is copied
+     * to the buffer first, and on ties the left element is taken, which keeps the sort stable.
+     *
+     * @param elements Array holding both runs.
+     * @param buffer Scratch array; only buffer[from, mid) is used.
+     * @param from Start of the left run.
+     * @param mid Start of the right run.
+     * @param to End of the right run.
+     * @param comparator Ordering to merge by.
+     */
+    private static <T> void merge(T[] elements, T[] buffer, int from, int mid, int to, Comparator<? super T> comparator) {
+        if (comparator.compare(elements[mid - 1], elements[mid]) <= 0) {
+            return; // The runs are already in order.
+        }
+        System.arraycopy(elements, from, buffer, from, mid - from);
+        int left = from;
+        int right = mid;
+        int out = from;
+        while (left < mid && right < to) {
+            if (comparator.compare(elements[right], buffer[left]) < 0) {
+                elements[out++] = elements[right++];
+            } else {
+                elements[out++] = buffer[left++];
+            }
+        }
+        System.arraycopy(buffer, left, elements, out, mid - left); // Whatever is left of the right run is in place.
+    }
+
+    /**
+     * Sorts a short range with insertion sort, which beats merging for a handful of elements.
+     *
+     * @param elements Array being sorted.
+     * @param from First index to sort (inclusive).
+     * @param to Last index to sort (exclusive).
+     * @param comparator Ordering to sort by.
+     */
+    private static <T> void insertionSort(T[] elements, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T key = elements[i];
             int j = i - 1;
-            switch (compare) {
-                case PATIENT_SORTING:
-                    // Sort by patient details.
-                    while (j >= 0 && comparePatient(appKey, appointments.get(j)) < 0) {
-                        appointments.set(j + 1, appointments.get(j));
-                        j--;
-                    }
-                    break;
-                case APPOINTMENT_SORTING:
-                    // Sort by appointment time.
-                    while (j >= 0 && compareAppointment(appKey, appointments.get(j)) < 0) {
-                        appointments.set(j + 1, appointments.get(j));
-                        j--;
-                    }
-                    break;
-                case LOCATION_SORTING:
-                    // Sort by location.
-                    while (j >= 0 && compareLocation(appKey, appointments.get(j)) < 0) {
-                        appointments.set(j + 1, appointments.get(j));
-                        j--;
-                    }
-                    break;
-            }
-            appointments.set(j + 1, appKey);
+            // Shift elements that are greater than key to one position ahead of their current position.
+            while (j >= from && comparator.compare(key, elements[j]) < 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = key;
         }
     }
 
@@ -141,13 +669,21 @@ public class Sort {
     }
 
     /**
-     * Entry point to sort a list of Providers.
-     * This sorts the provider list using the internal sorting method.
+     * Gets the ordering used for the given SortType, so ordered structures can stay sorted
+     * exactly the way the sort method would sort them.
      *
-     * @param list List of providers to be sorted.
+     * @param sortType Key to determine the sorting criteria.
+     * @return Comparator matching that sort.
      */
-    public static void provider(List<Provider> list) {
-        sort(list);
+    public static Comparator<Appointment> comparator(SortType sortType) {
+        switch (sortType) {
+            case PATIENT_SORTING:
+                return Sort::comparePatient;
+            case LOCATION_SORTING:
+                return Sort::compareLocation;
+            default:
+                return Sort::compareAppointment;
+        }
     }
 
     /**
@@ -159,4 +695,145 @@ public class Sort {
     public static void appointment(List<Appointment> list, SortType sortType) {
         sort(list, sortType);
     }
+
+    /**
+     * Selects one page of the elements in comparator order without sorting all of them. A
+     * bounded max-heap keeps the offset + limit smallest elements seen so far, so the cost is
+     * O(n log(offset + limit)) comparisons instead of a full sort. Elements that compare as
+     * equal keep their iteration order, as they would in a stable sort.
+     *
+     * @param items Elements to select from.
+     * @param filter Test deciding which elements take part; others are skipped.
+     * @param comparator Ordering of the page.
+     * @param offset Number of leading elements to skip.
+     * @param limit Largest number of elements to return.
+     * @param <T> Type of the elements.
+     * @return The elements at positions offset to offset + limit - 1 of the sorted order.
+     */
+    public static <T> List<T> page(Iterable<? extends T> items, Predicate<? super T> filter,
+                                   Comparator<? super T> comparator, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative.");
+        }
+        List<T> page = new List<>();
+        if (limit == 0) {
+            return page;
+        }
+        BoundedHeap<T> heap = new BoundedHeap<>((int) Math.min((long) offset + limit, Integer.MAX_VALUE), comparator);
+        int sequence = 0;
+        for (T item : items) {
+            if (filter.test(item)) {
+                heap.offer(item, sequence++);
+            }
+        }
+        T[] sorted = heap.drain();
+        for (int i = offset; i < sorted.length; i++) {
+            page.add(sorted[i]);
+        }
+        return page;
+    }
+
+    /**
+     * Max-heap holding at most a fixed number of the smallest elements offered to it. Each
+     * element carries the order it was offered in, which breaks ties so the heap is stable.
+     *
+     * @param <T> Type of the elements.
+     */
+    private static class BoundedHeap<T> {
+        private final int capacity;
+        private final Comparator<? super T> comparator;
+        private T[] elements;
+        private int[] sequences;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private BoundedHeap(int capacity, Comparator<? super T> comparator) {
+            this.capacity = capacity;
+            this.comparator = comparator;
+            int initial = Math.min(capacity, INSERTION_SORT_THRESHOLD);
+            this.elements = (T[]) new Object[initial];
+            this.sequences = new int[initial];
+        }
+
+        /**
+         * Adds an element if fewer than capacity are held or it comes before the largest one held.
+         */
+        private void offer(T item, int sequence) {
+            if (size < capacity) {
+                if (size == elements.length) {
+                    int grown = (int) Math.min(capacity, (long) size + (size >> 1) + 1);
+                    elements = Arrays.copyOf(elements, grown);
+                    sequences = Arrays.copyOf(sequences, grown);
+                }
+                elements[size] = item;
+                sequences[size] = sequence;
+                siftUp(size++);
+            } else if (comparator.compare(item, elements[0]) < 0) {
+                // A later sequence never wins a tie, so only a strictly smaller element replaces the root.
+                elements[0] = item;
+                sequences[0] = sequence;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Empties the heap into an array in ascending order, using heapsort in place.
+         */
+        private T[] drain() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            T[] sorted = Arrays.copyOf(elements, size);
+            size = 0;
+            return sorted;
+        }
+
+        /**
+         * @return True if the element at i comes after the element at j, ties broken by sequence.
+         */
+        private boolean after(int i, int j) {
+            int compare = comparator.compare(elements[i], elements[j]);
+            return compare > 0 || (compare == 0 && sequences[i] > sequences[j]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!after(i, parent)) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < end && after(left, largest)) {
+                    largest = left;
+                }
+                if (right < end && after(right, largest)) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            T element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+            int sequence = sequences[i];
+            sequences[i] = sequences[j];
+            sequences[j] = sequence;
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package util;
+
+import p2.Appointment;
+import p2.Doctor;
+import p2.Location;
+import p2.Person;
+import p2.Profile;
+import p2.Specialty;
+import p2.Timeslot;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Measures how long it takes to sort appointment lists of growing size.
+ * The sequential and parallel comparator merge sorts and the bucket and packed key sorts used
+ * by Sort.appointment are compared against the original insertion sort, which is quadratic
+ * and is only run up to a size where it still finishes in reasonable time.
+ * Run the main method directly; results are printed to the console.
+ */
+public class SortBenchmark {
+    private static final int[] SIZES = {1_000, 10_000, 50_000, 1_000_000};
+    private static final int INSERTION_SORT_LIMIT = 10_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final String[] NAMES = {"Ann", "Ben", "Cara", "Dev", "Eli", "Fay", "Gus", "Hana"};
+
+    /**
+     * Copy of the original insertion sort, kept only as a baseline.
+     */
+    private static <T> void insertionSort(List<T> list, Comparator<? super T> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            T key = list.get(i);
+            int j = i - 1;
+            while (j >= 0 && comparator.compare(key, list.get(j)) < 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, key);
+        }
+    }
+
+    /**
+     * Builds n random appointments spread over a few months, all providers and all timeslots.
+     *
+     * @param n number of appointments
+     * @param random source of the random values
+     * @return the appointments, in random order
+     */
+    private static List<Appointment> randomAppointments(int n, Random random) {
+        Location[] locations = Location.values();
+        List<Appointment> list = new List<>(n);
+        for (int i = 0; i < n; i++) {
+            Profile patient = new Profile(NAMES[random.nextInt(NAMES.length)], NAMES[random.nextInt(NAMES.length)],
+                    new Date(1960 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            Profile doctor = new Profile(NAMES[random.nextInt(NAMES.length)], NAMES[random.nextInt(NAMES.length)],
+                    new Date(1970, 1, 1 + random.nextInt(28)));
+            Doctor provider = new Doctor(doctor, locations[random.nextInt(locations.length)], Specialty.FAMILY, "01");
+            Date date = new Date(2026, 11 + random.nextInt(2), 1 + random.nextInt(28));
+            list.add(new Appointment(date, Timeslot.fromNumber(1 + random.nextInt(12)), new Person(patient), provider));
+        }
+        return list;
+    }
+
+    private static List<Appointment> copyOf(List<Appointment> list) {
+        List<Appointment> copy = new List<>(list.size());
+        copy.addAll(list);
+        return copy;
+    }
+
+    /**
+     * Times the original insertion sort on a copy of the list.
+     *
+     * @param list appointments to sort; left unchanged
+     * @param sortType ordering to sort by
+     * @return elapsed time in nanoseconds
+     */
+    private static long timeInsertionSort(List<Appointment> list, Sort.SortType sortType) {
+        List<Appointment> copy = copyOf(list);
+        long start = System.nanoTime();
+        insertionSort(copy, Sort.comparator(sortType));
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times the comparator merge sort, Sort.list, on a copy of the list with the given parallel threshold.
+     *
+     * @param list appointments to sort; left unchanged
+     * @param sortType ordering to sort by
+     * @param parallelThreshold list size at which Sort switches to the parallel merge sort
+     * @return elapsed time in nanoseconds
+     */
+    private static long timeMergeSort(List<Appointment> list, Sort.SortType sortType, int parallelThreshold) {
+        List<Appointment> copy = copyOf(list);
+        long start = System.nanoTime();
+        Sort.list(copy, Sort.comparator(sortType), parallelThreshold);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Times Sort.appointment, which picks the bucket sort or the packed key sort, on a copy of the list.
+     *
+     * @param list appointments to sort; left unchanged
+     * @param sortType ordering to sort by
+     * @return elapsed time in nanoseconds
+     */
+    private static long timeAppointmentSort(List<Appointment> list, Sort.SortType sortType) {
+        List<Appointment> copy = copyOf(list);
+        long start = System.nanoTime();
+        Sort.appointment(copy, sortType);
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        List<Appointment> warmup = randomAppointments(SIZES[0], random);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (Sort.SortType sortType : Sort.SortType.values()) {
+                timeInsertionSort(warmup, sortType);
+                timeMergeSort(warmup, sortType, Integer.MAX_VALUE);
+                timeMergeSort(warmup, sortType, 2);
+                timeAppointmentSort(warmup, sortType);
+            }
+        }
+        System.out.printf("%10s %20s %16s %16s %16s %16s%n",
+                "elements", "sort", "insertion (ms)", "merge (ms)", "parallel (ms)", "appointment (ms)");
+        for (int n : SIZES) {
+            List<Appointment> list = randomAppointments(n, random);
+            for (Sort.SortType sortType : Sort.SortType.values()) {
+                double merge = timeMergeSort(list, sortType, Integer.MAX_VALUE) / 1e6;
+                double parallel = timeMergeSort(list, sortType, 2) / 1e6;
+                double sorted = timeAppointmentSort(list, sortType) / 1e6;
+                String insertion = n <= INSERTION_SORT_LIMIT
+                        ? String.format("%.2f", timeInsertionSort(list, sortType) / 1e6) : "-";
+                System.out.printf("%10d %20s %16s %16.2f %16.2f %16.2f%n", n, sortType, insertion, merge, parallel, sorted);
+            }
+        }
+    }
+}
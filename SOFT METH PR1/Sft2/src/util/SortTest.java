@@ -0,0 +1,242 @@
+package util;
+
+import org.junit.Test;
+import p2.Appointment;
+import p2.Imaging;
+import p2.Person;
+import p2.Provider;
+import p2.RandomFixtures;
+import p2.Timeslot;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that Sort orders lists exactly like the insertion sort it replaced, ties included.
+ * Values come from small pools so that many appointments compare as equal, and results are
+ * compared by identity so that the relative order of ties is checked too.
+ */
+public class SortTest {
+    private final RandomFixtures fixtures = new RandomFixtures();
+    private final Random random = fixtures.random();
+
+    private List<Appointment> randomAppointments(int count) {
+        List<Appointment> list = new List<>();
+        for (int i = 0; i < count; i++) {
+            list.add(fixtures.randomAppointment());
+        }
+        return list;
+    }
+
+    /**
+     * Copy of the original insertion sort, kept as the reference ordering.
+     */
+    private static <T> void insertionSort(List<T> list, Comparator<? super T> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            T key = list.get(i);
+            int j = i - 1;
+            while (j >= 0 && comparator.compare(key, list.get(j)) < 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, key);
+        }
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        List<T> copy = new List<>(list.size());
+        copy.addAll(list);
+        return copy;
+    }
+
+    private static <T> void assertSameOrder(List<T> expected, List<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame("position " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Sorts random lists of many sizes with every SortType and compares with insertion sort.
+     */
+    @Test
+    public void testAppointmentSortMatchesInsertionSort() {
+        for (Sort.SortType sortType : Sort.SortType.values()) {
+            for (int size : new int[]{0, 1, 2, 15, 16, 17, 100, 1_000}) {
+                List<Appointment> actual = randomAppointments(size);
+                List<Appointment> expected = copyOf(actual);
+                insertionSort(expected, Sort.comparator(sortType));
+                Sort.appointment(actual, sortType);
+                assertSameOrder(expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Sorts random providers, many with equal profiles, and compares with insertion sort.
+     */
+    @Test
+    public void testProviderSortMatchesInsertionSort() {
+        List<Provider> actual = new List<>();
+        for (int i = 0; i < 500; i++) {
+            actual.add(fixtures.randomProvider());
+        }
+        List<Provider> expected = copyOf(actual);
+        insertionSort(expected, Sort::compareProvider);
+        Sort.list(actual, Sort::compareProvider);
+        assertSameOrder(expected, actual);
+    }
+
+    /**
+     * Verifies that sorting an already sorted or reversed list gives the same result.
+     */
+    @Test
+    public void testSortedAndReversedInput() {
+        List<Integer> ascending = new List<>();
+        List<Integer> descending = new List<>();
+        for (int i = 0; i < 1_000; i++) {
+            ascending.add(i);
+            descending.add(999 - i);
+        }
+        Sort.list(ascending, Comparator.naturalOrder());
+        Sort.list(descending, Comparator.naturalOrder());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, (int) ascending.get(i));
+            assertEquals(i, (int) descending.get(i));
+        }
+    }
+
+    /**
+     * Verifies that an IndexedList finds every element at its new position after a sort.
+     */
+    @Test
+    public void testIndexedListReindexedAfterSort() {
+        IndexedList<Integer> list = new IndexedList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add((i * 37) % 200);
+        }
+        Sort.list(list, Comparator.naturalOrder());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, list.indexOf(i));
+        }
+    }
+
+    /**
+     * Sorts large random lists in parallel and verifies the order is identical to the
+     * sequential sort for every SortType.
+     */
+    @Test
+    public void testParallelSortMatchesSequential() {
+        for (Sort.SortType sortType : Sort.SortType.values()) {
+            List<Appointment> parallel = randomAppointments(20_000);
+            List<Appointment> sequential = copyOf(parallel);
+            Sort.list(sequential, Sort.comparator(sortType), Integer.MAX_VALUE);
+            Sort.list(parallel, Sort.comparator(sortType), 64);
+            assertSameOrder(sequential, parallel);
+        }
+    }
+
+    /**
+     * Verifies that a threshold below 2 is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelThresholdMustBeAtLeastTwo() {
+        Sort.list(new List<Integer>(), Comparator.naturalOrder(), 1);
+    }
+
+    /**
+     * Sorts lists long enough for the packed key sort and verifies the order is identical to
+     * the comparator merge sort for every SortType, including names that differ only in case.
+     */
+    @Test
+    public void testKeySortMatchesComparator() {
+        for (Sort.SortType sortType : Sort.SortType.values()) {
+            List<Appointment> actual = randomAppointments(70_000);
+            List<Appointment> expected = copyOf(actual);
+            Sort.list(expected, Sort.comparator(sortType));
+            Sort.appointment(actual, sortType);
+            assertSameOrder(expected, actual);
+        }
+    }
+
+    /**
+     * Sorts lists that take the bucket sort, lists whose dates span too many years for it, and
+     * lists holding an invalid or unpackable date, and verifies the order is identical to the
+     * comparator merge sort.
+     */
+    @Test
+    public void testBucketSortMatchesComparator() {
+        for (Sort.SortType sortType : new Sort.SortType[]{Sort.SortType.APPOINTMENT_SORTING, Sort.SortType.LOCATION_SORTING}) {
+            List<Appointment> actual = randomAppointments(5_000);
+            for (int i = 0; i < 100; i++) {
+                Date date = new Date(2026 + random.nextInt(500), 1 + random.nextInt(12), 1 + random.nextInt(28));
+                actual.add(new Appointment(date, Timeslot.fromNumber(1 + random.nextInt(12)),
+                        new Person(fixtures.randomProfile()), fixtures.randomProvider()));
+            }
+            List<Appointment> expected = copyOf(actual);
+            Sort.list(expected, Sort.comparator(sortType));
+            Sort.appointment(actual, sortType);
+            assertSameOrder(expected, actual);
+
+            List<Appointment> bucketed = randomAppointments(5_000);
+            expected = copyOf(bucketed);
+            Sort.list(expected, Sort.comparator(sortType));
+            Sort.appointment(bucketed, sortType);
+            assertSameOrder(expected, bucketed);
+
+            for (Date odd : new Date[]{new Date(2026, 13, 5), new Date(2026, 2, 30), new Date(300_000, 1, 1)}) {
+                List<Appointment> withOdd = randomAppointments(500);
+                withOdd.add(new Appointment(odd, Timeslot.fromNumber(1), new Person(fixtures.randomProfile()), fixtures.randomProvider()));
+                expected = copyOf(withOdd);
+                Sort.list(expected, Sort.comparator(sortType));
+                Sort.appointment(withOdd, sortType);
+                assertSameOrder(expected, withOdd);
+            }
+        }
+    }
+
+    /**
+     * Selects pages at many offsets and limits, with and without a filter, and verifies each
+     * page is the matching slice of the fully sorted list, ties in the same order.
+     */
+    @Test
+    public void testPageMatchesSortedSlice() {
+        List<Appointment> appointments = randomAppointments(2_000);
+        for (Sort.SortType sortType : Sort.SortType.values()) {
+            Comparator<Appointment> comparator = Sort.comparator(sortType);
+            List<Appointment> sorted = copyOf(appointments);
+            Sort.list(sorted, comparator);
+            List<Appointment> imaging = new List<>();
+            for (Appointment appointment : sorted) {
+                if (appointment instanceof Imaging) {
+                    imaging.add(appointment);
+                }
+            }
+            int[][] pages = {{0, 0}, {0, 1}, {0, 50}, {10, 25}, {1_990, 50}, {5_000, 10}, {0, Integer.MAX_VALUE}};
+            for (int[] page : pages) {
+                List<Appointment> expected = new List<>();
+                for (int i = page[0]; i < sorted.size() && i - page[0] < page[1]; i++) {
+                    expected.add(sorted.get(i));
+                }
+                assertSameOrder(expected, Sort.page(appointments, appointment -> true, comparator, page[0], page[1]));
+
+                List<Appointment> expectedImaging = new List<>();
+                for (int i = page[0]; i < imaging.size() && i - page[0] < page[1]; i++) {
+                    expectedImaging.add(imaging.get(i));
+                }
+                assertSameOrder(expectedImaging,
+                        Sort.page(appointments, appointment -> appointment instanceof Imaging, comparator, page[0], page[1]));
+            }
+        }
+    }
+
+    /**
+     * Verifies that a negative offset or limit is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageRejectsNegativeOffset() {
+        Sort.page(new List<Integer>(), value -> true, Comparator.<Integer>naturalOrder(), -1, 10);
+    }
+}
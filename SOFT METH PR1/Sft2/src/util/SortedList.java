@@ -0,0 +1,196 @@
+package util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a list that keeps its elements permanently in comparator order. add finds the
+ * insertion point with a binary search, after any elements that compare as equal, so the list
+ * always looks as if it had just been stably sorted and never needs a sort. contains, indexOf
+ * and search also use binary search. Elements must not be changed in a way that moves them in
+ * the ordering while they are in the list.
+ *
+ * It is not a List: it keeps the elements in a private one and offers no way to place or
+ * replace an element at a chosen index, so neither callers nor Sort can break the order.
+ *
+ * @param <E> Type of elements in the list.
+ */
+public class SortedList<E> implements Iterable<E> {
+    private final Comparator<? super E> comparator;
+    private final List<E> elements;
+
+    /**
+     * Creates an empty list ordered by the given comparator.
+     *
+     * @param comparator Ordering of the list.
+     */
+    public SortedList(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.elements = new List<>();
+    }
+
+    /**
+     * @return Number of elements in the list.
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return True if the list holds no elements.
+     */
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * @param index Position to read.
+     * @return The element at the given position in the ordering.
+     */
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Inserts an element at its ordered position, after any elements that compare equal to it.
+     * Finding the position takes O(log n) comparisons.
+     *
+     * @param e Element to insert.
+     */
+    public void add(E e) {
+        elements.add(upperBound(e), e);
+    }
+
+    /**
+     * Inserts every element of another list at its ordered position.
+     *
+     * @param other List whose elements are added.
+     */
+    public void addAll(List<? extends E> other) {
+        elements.ensureCapacity(size() + other.size());
+        for (E e : other) {
+            add(e);
+        }
+    }
+
+    /**
+     * Returns the position of the first element equal to the given one. The run of elements
+     * that compare equal to it is found by binary search and then checked with equals.
+     *
+     * @param e Element to look for.
+     * @return Index of the first equal element, or -1 if there is none.
+     */
+    public int indexOf(E e) {
+        for (int i = lowerBound(e); i < size() && comparator.compare(get(i), e) == 0; i++) {
+            if (get(i).equals(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the list contains an element equal to the given one.
+     *
+     * @param e Element to look for.
+     * @return True if an equal element is in the list; otherwise false.
+     */
+    public boolean contains(E e) {
+        return indexOf(e) != -1;
+    }
+
+    /**
+     * Removes the first element equal to the given one, if present.
+     *
+     * @param e Element to remove.
+     */
+    public void remove(E e) {
+        int index = indexOf(e);
+        if (index != -1) {
+            elements.removeAt(index);
+        }
+    }
+
+    /**
+     * Removes the element at a position; the rest stay in order.
+     *
+     * @param index Position to remove.
+     * @return The removed element.
+     */
+    public E removeAt(int index) {
+        return elements.removeAt(index);
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * @return Iterator over the elements in order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Binary-searches by a key instead of a whole element, for example a provider by its
+     * profile. The probe compares the key being looked for with an element, and must agree
+     * with the list's ordering.
+     *
+     * @param probe Returns a negative number if the key comes before the element, 0 if it
+     *              matches, and a positive number if it comes after.
+     * @return Index of the first matching element, or -1 if there is none.
+     */
+    public int search(ToIntFunction<? super E> probe) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (probe.applyAsInt(get(mid)) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < size() && probe.applyAsInt(get(low)) == 0 ? low : -1;
+    }
+
+    /**
+     * @return Index of the first element that does not come before e.
+     */
+    private int lowerBound(E e) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(get(mid), e) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return Index of the first element that comes after e.
+     */
+    private int upperBound(E e) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(get(mid), e) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
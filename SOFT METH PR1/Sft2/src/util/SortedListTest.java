@@ -0,0 +1,90 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a SortedList stays in order, stably, and that its binary searches find elements.
+ */
+public class SortedListTest {
+    /**
+     * Orders strings by length only, so strings of the same length are ties.
+     */
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+
+    /**
+     * Adds random values and verifies the list matches a stable sort of the same values.
+     */
+    @Test
+    public void testAddKeepsStableOrder() {
+        Random random = new Random(16);
+        SortedList<String> sorted = new SortedList<>(BY_LENGTH);
+        List<String> expected = new List<>();
+        for (int i = 0; i < 500; i++) {
+            String value = "x".repeat(random.nextInt(20)) + i;
+            sorted.add(value);
+            expected.add(value);
+        }
+        Sort.list(expected, BY_LENGTH);
+        assertEquals(expected.size(), sorted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i));
+        }
+    }
+
+    /**
+     * Verifies indexOf, contains and remove among elements that compare as equal.
+     */
+    @Test
+    public void testIndexOfWithinTies() {
+        SortedList<String> sorted = new SortedList<>(BY_LENGTH);
+        sorted.add("bb");
+        sorted.add("a");
+        sorted.add("cc");
+        sorted.add("ddd");
+        assertEquals(0, sorted.indexOf("a"));
+        assertEquals(2, sorted.indexOf("cc"));
+        assertEquals(-1, sorted.indexOf("ee"));
+        assertTrue(sorted.contains("bb"));
+        sorted.remove("bb");
+        assertFalse(sorted.contains("bb"));
+        assertEquals(1, sorted.indexOf("cc"));
+    }
+
+    /**
+     * Searches by a key instead of an element.
+     */
+    @Test
+    public void testSearchByKey() {
+        SortedList<String> sorted = new SortedList<>(BY_LENGTH);
+        for (String value : new String[]{"dddd", "a", "bb", "cc"}) {
+            sorted.add(value);
+        }
+        assertEquals(1, sorted.search(value -> Integer.compare(2, value.length())));
+        assertEquals(3, sorted.search(value -> Integer.compare(4, value.length())));
+        assertEquals(-1, sorted.search(value -> Integer.compare(3, value.length())));
+        assertEquals(-1, sorted.search(value -> Integer.compare(9, value.length())));
+    }
+
+    /**
+     * Removes by position and clears, and verifies that adds after that still land in order.
+     */
+    @Test
+    public void testRemoveAtAndClear() {
+        SortedList<String> sorted = new SortedList<>(BY_LENGTH);
+        for (String value : new String[]{"ccc", "a", "bb"}) {
+            sorted.add(value);
+        }
+        assertEquals("bb", sorted.removeAt(1));
+        sorted.add("dd");
+        assertEquals("dd", sorted.get(1));
+        sorted.clear();
+        assertTrue(sorted.isEmpty());
+        sorted.add("e");
+        assertEquals(1, sorted.size());
+    }
+}
@@ -0,0 +1,28 @@
+package util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Pins what Date considers today, for tests that depend on the current date. Tests that call
+ * setToday should call reset from an @After method so the next test sees the system clock.
+ */
+public class TestClock {
+    private TestClock() {
+    }
+
+    /**
+     * Fixes today's date at noon UTC.
+     */
+    public static void setToday(int year, int month, int day) {
+        Date.setClock(Clock.fixed(LocalDate.of(year, month, day).atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    /**
+     * Puts the system clock back.
+     */
+    public static void reset() {
+        Date.setClock(Clock.systemDefaultZone());
+    }
+}